@@ -2,24 +2,34 @@ package com.seleniumFramework.common;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
+import org.testng.xml.XmlSuite.ParallelMode;
 
+import com.seleniumFramework.utilities.BrowserProfile;
+import com.seleniumFramework.utilities.ElementInteractionUtils;
+import com.seleniumFramework.utilities.ExcelSheetCache;
+import com.seleniumFramework.utilities.ExtentReportListener;
+import com.seleniumFramework.utilities.HighlightMode;
+import com.seleniumFramework.utilities.InteractionContext;
+import com.seleniumFramework.utilities.LocatorCache;
 import com.seleniumFramework.utilities.ReadConfig;
+import com.seleniumFramework.utilities.ScreenshotPolicy;
+import com.seleniumFramework.utilities.SmartWait;
+import com.seleniumFramework.utilities.StepCapture;
 
 public class BaseClass {
 
@@ -28,18 +38,30 @@ public class BaseClass {
 	protected String url;
 	protected String browser;
 	protected String browserVersion;
-	
-	public static WebDriver driver;
-	protected static Logger logger;	
+
+	private static String suiteUrl;
+	private static String suiteBrowser;
+	private static BrowserProfile suiteProfile;
+	private static DriverPool driverPool;
+	private static String driverPoolBrowser;
+	private static BrowserProfile driverPoolProfile;
+	private static int driverPoolSize;
+	private static boolean recycleSessions;
+	private static Thread driverPoolShutdownHook;
+
+	protected static Logger logger;
 	public static ThreadLocal<WebDriver> driverObject = new ThreadLocal<WebDriver>();
 
 	public static WebDriver getDriver() {
 		return driverObject.get();
 	}
 
-	@Parameters({ "baseUrl", "browser" })
+	@Parameters({ "baseUrl", "browser", "browserProfile", "driverPoolSize", "sessionRecycling", "highlightMode",
+			"preloadSheets", "screenshotCapture" })
 	@BeforeSuite
-	public void setupSuite(@Optional String baseUrl, @Optional String browser) {
+	public void setupSuite(@Optional String baseUrl, @Optional String browser, @Optional String browserProfile,
+			@Optional String driverPoolSize, @Optional String sessionRecycling, @Optional String highlightMode,
+			@Optional String preloadSheets, @Optional String screenshotCapture, ITestContext context) {
 		logger = LogManager.getLogger(BaseClass.class);
 		this.url = baseUrl != null ? baseUrl : readConfig.getBaseUrl();
 		this.browser = browser != null ? browser : readConfig.getBrowser();
@@ -49,71 +71,162 @@ public class BaseClass {
 			logger.error(errorMessage);
 			throw new IllegalArgumentException(errorMessage);
 		}
+		suiteUrl = this.url;
+		suiteBrowser = this.browser;
+		suiteProfile = BrowserProfile
+				.fromName(browserProfile != null ? browserProfile : readConfig.getBrowserProfile());
+		recycleSessions = Boolean.parseBoolean(
+				sessionRecycling != null ? sessionRecycling : readConfig.getSessionRecycling());
+		ElementInteractionUtils.setHighlightMode(HighlightMode.fromName(highlightMode != null ? highlightMode
+				: System.getProperty("highlightMode", readConfig.getHighlightMode())));
+		StepCapture.setPolicy(ScreenshotPolicy.fromName(screenshotCapture != null ? screenshotCapture
+				: System.getProperty("screenshotCapture", Config.SCREENSHOT_CAPTURE)));
+		preloadTestData(preloadSheets);
 		try {
-            setupDriver(this.browser);
-            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-            logger.info("WebDriver initialized before suite with browser: {}", this.browser);
-        } catch (Exception e) {
-            logger.error("Error during WebDriver initialization before suite: {}", e.getMessage(), e);
-            throw e;
-        }
-    }
-	
-	private void setupDriver(String browser) {
-        switch (browser.toLowerCase()) {
-            case "chrome":
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.setBrowserVersion("126");
-                //chromeOptions.addArguments("--remote-allow-origins=*");
-                driver = new ChromeDriver(chromeOptions);
-                break;
-            case "firefox":
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                driver = new FirefoxDriver(firefoxOptions);
-                break;
-            case "edge":
-                EdgeOptions edgeOptions = new EdgeOptions();
-                driver = new EdgeDriver(edgeOptions);
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported browser: " + browser);
-        }
-        driverObject.set(driver);
-    }
+			int poolSize = resolvePoolSize(driverPoolSize, context);
+			if (driverPool != null && this.browser.equalsIgnoreCase(driverPoolBrowser)
+					&& suiteProfile == driverPoolProfile && poolSize == BaseClass.driverPoolSize) {
+				logger.info("Reusing recycled driver pool with browser: {}. {}", this.browser, driverPool.stats());
+				return;
+			}
+			shutdownDriverPool();
+			long start = System.nanoTime();
+			BrowserBootstrap.resolveAll(Collections.singleton(this.browser));
+			driverPool = new DriverPool(poolSize, Duration.ofSeconds(Config.MAX_WAIT_TIME),
+					() -> setupDriver(suiteBrowser, suiteProfile));
+			driverPoolBrowser = this.browser;
+			driverPoolProfile = suiteProfile;
+			BaseClass.driverPoolSize = poolSize;
+			driverPool.prewarm();
+			BrowserBootstrap.record("suite-startup", System.nanoTime() - start);
+			logger.info("Driver pool of {} session(s) initialized before suite with browser: {} (profile: {})",
+					poolSize, this.browser, suiteProfile);
+			logger.info(BrowserBootstrap.timings());
+		} catch (Exception e) {
+			logger.error("Error during WebDriver initialization before suite: {}", e.getMessage(), e);
+			throw e;
+		}
+	}
+
+	/**
+	 * One session per worker thread: an explicit driverPoolSize wins, otherwise
+	 * the suite thread-count is used whenever the suite runs in parallel.
+	 */
+	private int resolvePoolSize(String driverPoolSize, ITestContext context) {
+		if (driverPoolSize != null && !driverPoolSize.trim().isEmpty()) {
+			return Integer.parseInt(driverPoolSize.trim());
+		}
+		if (context != null) {
+			ParallelMode parallel = context.getSuite().getXmlSuite().getParallel();
+			if (parallel != null && parallel != ParallelMode.NONE) {
+				return Math.max(1, context.getSuite().getXmlSuite().getThreadCount());
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Parses the listed sheets of the test data workbook in the background while
+	 * the browsers start; tests reading them later wait for or hit the cache.
+	 */
+	private void preloadTestData(String preloadSheets) {
+		if (preloadSheets == null || preloadSheets.trim().isEmpty()) {
+			return;
+		}
+		String[] sheetNames = Arrays.stream(preloadSheets.split(",")).map(String::trim)
+				.filter(name -> !name.isEmpty()).toArray(String[]::new);
+		CompletableFuture.runAsync(() -> {
+			try {
+				ExcelSheetCache.preload(Config.TEST_DATA_FILE_PATH, sheetNames);
+			} catch (Exception e) {
+				logger.error("Failed to preload test data sheets {}: {}", preloadSheets, e.getMessage(), e);
+			}
+		});
+	}
+
+	private WebDriver setupDriver(String browser, BrowserProfile profile) {
+		WebDriver webDriver = BrowserBootstrap.newDriver(browser, profile);
+		// waits are explicit (SmartWait), so negative lookups fail fast
+		webDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
+		return webDriver;
+	}
 
 	@BeforeMethod
 	public void setup(Method method) {
 		logger = LogManager.getLogger(method.getDeclaringClass());
 		logger.info("Executing test method: {}", method.getName());
+		this.url = suiteUrl;
+		this.browser = suiteBrowser;
 
-		if (getDriver() == null) {
-			setupSuite(url, browser);
+		if (getDriver() != null) {
+			return;
 		}
 		try {
-			logger.info("WebDriver initialized for method: {} with browser: {}", method.getName(), this.browser);
+			driverObject.set(driverPool.lease());
+			logger.info("WebDriver leased for method: {} with browser: {}", method.getName(), this.browser);
 		} catch (Exception e) {
 			logger.error("Error during WebDriver setup: {}", e.getMessage(), e);
 			throw e;
 		}
 	}
 
-	 @AfterMethod
-	    public void afterMethod(Method method) {
-	    	logger.info("Completed test method: {}", method.getName());
-	    }
-	
+	@AfterMethod
+	public void afterMethod(Method method, ITestResult result) {
+		WebDriver webDriver = getDriver();
+		InteractionContext.clear();
+		if (result.getStatus() == ITestResult.FAILURE) {
+			// TestNG calls onTestFailure after this method, when the page is already reset
+			ExtentReportListener.captureFailure(result, webDriver);
+		}
+		if (webDriver != null) {
+			driverObject.remove();
+			driverPool.release(webDriver);
+		}
+		logger.info("Completed test method: {} (time spent waiting: {} ms)", method.getName(),
+				SmartWait.resetWaitedMillis());
+	}
+
 	@AfterSuite
-	public void tearDown(Method method) {
+	public void tearDown() {
 		try {
-			if (getDriver() != null) {
-				getDriver().close();
-				getDriver().quit();
-				driverObject.remove();
-				logger.info("WebDriver closed and session ended successfully.");
+			driverObject.remove();
+			if (driverPool == null) {
+				return;
+			}
+			logger.info(SmartWait.learnedLatencies());
+			logger.info(ElementInteractionUtils.highlightStats());
+			logger.info(LocatorCache.stats());
+			logger.info(ExcelSheetCache.stats());
+			if (recycleSessions) {
+				registerShutdownHook();
+				logger.info("Keeping driver pool alive for the next suite. {}", driverPool.stats());
+			} else {
+				shutdownDriverPool();
+				logger.info("WebDriver sessions closed and driver pool shut down successfully.");
 			}
 		} catch (Exception e) {
 			logger.error("Error during WebDriver teardown: {}", e.getMessage(), e);
 		}
 	}
 
+	private static synchronized void shutdownDriverPool() {
+		if (driverPool != null) {
+			driverPool.shutdown();
+			driverPool = null;
+			driverPoolBrowser = null;
+			driverPoolProfile = null;
+			driverPoolSize = 0;
+		}
+	}
+
+	/**
+	 * Recycled sessions outlive the suite, so they are quit when the JVM exits.
+	 */
+	private static synchronized void registerShutdownHook() {
+		if (driverPoolShutdownHook == null) {
+			driverPoolShutdownHook = new Thread(BaseClass::shutdownDriverPool, "driver-pool-shutdown");
+			Runtime.getRuntime().addShutdownHook(driverPoolShutdownHook);
+		}
+	}
+
 }
@@ -0,0 +1,414 @@
+package com.seleniumFramework.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import com.seleniumFramework.utilities.BrowserProfile;
+import com.seleniumFramework.utilities.BrowserUtils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Browser start-up stage shared by every suite in the JVM.
+ *
+ * Driver binaries and browser versions are resolved once per JVM and cached on
+ * disk, keyed by the browser executable path and its modification time, so a
+ * warm machine skips WebDriverManager's network lookups entirely. Only
+ * WebDriverManager's public API is used: the browser path it detects and the
+ * driver it resolves at setup. The browser version is read from the installed
+ * browser itself ({@code --version}, or the file version on Windows) and cached
+ * with the driver, separately from the driver version.
+ * Browsers are resolved on a small shared executor and the duration of every
+ * phase is recorded for the suite log; the driver pool launches its sessions
+ * on an executor of its own, sized to the pool.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public class BrowserBootstrap {
+
+	private static final Logger logger = LogManager.getLogger(BrowserBootstrap.class);
+	private static final Map<String, ResolvedBrowser> resolvedBrowsers = new ConcurrentHashMap<>();
+	private static final Map<String, PhaseTiming> timings = new ConcurrentHashMap<>();
+	private static final Object cacheLock = new Object();
+	private static final Pattern VERSION_PATTERN = Pattern.compile("\\d+(\\.\\d+)+");
+	private static final ExecutorService executor = Executors.newFixedThreadPool(Config.BROWSER_BOOTSTRAP_THREADS,
+			new ThreadFactoryImpl());
+
+	/**
+	 * Driver binary and browser details resolved for one browser type.
+	 */
+	public static final class ResolvedBrowser {
+		private final String browser;
+		private final String driverPath;
+		private final String driverVersion;
+		private final String browserPath;
+		private final String browserVersion;
+
+		ResolvedBrowser(String browser, String driverPath, String driverVersion, String browserPath,
+				String browserVersion) {
+			this.browser = browser;
+			this.driverPath = driverPath;
+			this.driverVersion = driverVersion;
+			this.browserPath = browserPath;
+			this.browserVersion = browserVersion;
+		}
+
+		public String getBrowser() {
+			return browser;
+		}
+
+		public String getDriverPath() {
+			return driverPath;
+		}
+
+		/** The version of the driver binary, e.g. geckodriver 0.34.0 for Firefox. */
+		public String getDriverVersion() {
+			return driverVersion;
+		}
+
+		public String getBrowserPath() {
+			return browserPath;
+		}
+
+		/** The version of the installed browser, or an empty string if it could not be detected. */
+		public String getBrowserVersion() {
+			return browserVersion;
+		}
+
+		@Override
+		public String toString() {
+			return browser + " " + (browserVersion.isEmpty() ? "(version unknown)" : browserVersion) + " (driver "
+					+ driverVersion + ": " + driverPath + ")";
+		}
+	}
+
+	/********************************************************************************************
+	 * Resolves the driver binary and browser version for a browser, at most once
+	 * per JVM. The on-disk cache is consulted before WebDriverManager is invoked.
+	 *
+	 * @param browser the browser name (chrome, firefox or edge)
+	 * @return the resolved driver and browser details
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ResolvedBrowser resolve(String browser) {
+		String key = browser.toLowerCase();
+		return resolvedBrowsers.computeIfAbsent(key, name -> {
+			long start = System.nanoTime();
+			try {
+				return resolveUncached(name);
+			} finally {
+				record("resolve:" + name, System.nanoTime() - start);
+			}
+		});
+	}
+
+	/********************************************************************************************
+	 * Resolves several browsers concurrently so the resolve phase costs as much
+	 * as the slowest browser rather than the sum of all of them.
+	 *
+	 * @param browsers the browser names to resolve
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void resolveAll(Collection<String> browsers) {
+		List<Future<ResolvedBrowser>> futures = new ArrayList<>();
+		for (String browser : browsers) {
+			futures.add(executor.submit(() -> resolve(browser)));
+		}
+		for (Future<ResolvedBrowser> future : futures) {
+			try {
+				logger.info("Resolved browser: {}", future.get());
+			} catch (Exception e) {
+				logger.error("Failed to resolve browser driver: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Launches a new browser session with the framework's default options.
+	 *
+	 * @param browser the browser name (chrome, firefox or edge)
+	 * @return the new WebDriver session
+	 * @throws IllegalArgumentException if the browser is not supported
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static WebDriver newDriver(String browser) {
+		return newDriver(browser, BrowserProfile.DEFAULT);
+	}
+
+	/********************************************************************************************
+	 * Launches a new browser session configured for a browser profile.
+	 *
+	 * @param browser the browser name (chrome, firefox or edge)
+	 * @param profile the launch profile, e.g. lean-headless
+	 * @return the new WebDriver session
+	 * @throws IllegalArgumentException if the browser is not supported
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static WebDriver newDriver(String browser, BrowserProfile profile) {
+		String name = browser.toLowerCase();
+		resolve(name);
+		long start = System.nanoTime();
+		WebDriver webDriver;
+		switch (name) {
+		case "chrome":
+			ChromeOptions chromeOptions = BrowserUtils.configureChromeOptions(profile);
+			webDriver = new ChromeDriver(chromeOptions);
+			break;
+		case "firefox":
+			FirefoxOptions firefoxOptions = BrowserUtils.configureFirefoxOptions(profile);
+			webDriver = new FirefoxDriver(firefoxOptions);
+			break;
+		case "edge":
+			EdgeOptions edgeOptions = BrowserUtils.configureEdgeOptions(profile);
+			webDriver = new EdgeDriver(edgeOptions);
+			break;
+		default:
+			throw new IllegalArgumentException("Unsupported browser: " + browser);
+		}
+		record("launch:" + name, System.nanoTime() - start);
+		return webDriver;
+	}
+
+	/********************************************************************************************
+	 * Records the duration of a start-up phase.
+	 *
+	 * @param phase       the phase name, e.g. resolve:chrome
+	 * @param elapsedNanos the time spent in the phase
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void record(String phase, long elapsedNanos) {
+		timings.computeIfAbsent(phase, p -> new PhaseTiming()).add(elapsedNanos);
+	}
+
+	/********************************************************************************************
+	 * Summarises the recorded start-up phases.
+	 *
+	 * @return one line per phase with count, total and max duration
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String timings() {
+		StringBuilder summary = new StringBuilder("Browser start-up timings:");
+		for (Map.Entry<String, PhaseTiming> entry : new TreeMap<>(timings).entrySet()) {
+			summary.append(System.lineSeparator()).append("  ").append(entry.getKey()).append(": ")
+					.append(entry.getValue());
+		}
+		return summary.toString();
+	}
+
+	private static ResolvedBrowser resolveUncached(String browser) {
+		WebDriverManager manager = managerFor(browser);
+		Optional<Path> browserPath = Optional.empty();
+		try {
+			browserPath = manager.getBrowserPath();
+		} catch (Exception e) {
+			logger.debug("Unable to detect {} browser path: {}", browser, e.getMessage());
+		}
+		String cacheKey = browserPath.map(path -> cacheKey(browser, path)).orElse(null);
+		if (cacheKey != null) {
+			ResolvedBrowser cached = readCache(browser, cacheKey, browserPath.get());
+			if (cached != null) {
+				System.setProperty(driverProperty(browser), cached.getDriverPath());
+				logger.info("Using cached {} driver: {}", browser, cached.getDriverPath());
+				return cached;
+			}
+		}
+		manager.setup();
+		ResolvedBrowser resolved = new ResolvedBrowser(browser, manager.getDownloadedDriverPath(),
+				manager.getDownloadedDriverVersion(), browserPath.map(Path::toString).orElse(""),
+				browserPath.map(path -> detectBrowserVersion(browser, path)).orElse(""));
+		if (cacheKey != null) {
+			writeCache(cacheKey, resolved);
+		}
+		return resolved;
+	}
+
+	/**
+	 * Asks the installed browser for its version: {@code --version} prints it on
+	 * Linux and macOS, while on Windows it is the product version of the
+	 * executable.
+	 */
+	private static String detectBrowserVersion(String browser, Path browserPath) {
+		List<String> command = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows")
+				? Arrays.asList("powershell", "-NoProfile", "-Command", "(Get-Item -LiteralPath '"
+						+ browserPath.toString().replace("'", "''") + "').VersionInfo.ProductVersion")
+				: Arrays.asList(browserPath.toString(), "--version");
+		try {
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+			if (!process.waitFor(Config.BROWSER_VERSION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				logger.warn("Timed out detecting the {} browser version of {}", browser, browserPath);
+				return "";
+			}
+			String output;
+			try (InputStream in = process.getInputStream()) {
+				output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			Matcher version = VERSION_PATTERN.matcher(output);
+			if (version.find()) {
+				return version.group();
+			}
+			logger.warn("No {} browser version in the output of {}: {}", browser, command, output.trim());
+		} catch (IOException e) {
+			logger.warn("Unable to detect the {} browser version of {}: {}", browser, browserPath, e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "";
+	}
+
+	private static WebDriverManager managerFor(String browser) {
+		switch (browser) {
+		case "chrome":
+			return WebDriverManager.chromedriver();
+		case "firefox":
+			return WebDriverManager.firefoxdriver();
+		case "edge":
+			return WebDriverManager.edgedriver();
+		default:
+			throw new IllegalArgumentException("Unsupported browser: " + browser);
+		}
+	}
+
+	private static String driverProperty(String browser) {
+		switch (browser) {
+		case "firefox":
+			return "webdriver.gecko.driver";
+		case "edge":
+			return "webdriver.edge.driver";
+		default:
+			return "webdriver.chrome.driver";
+		}
+	}
+
+	private static String cacheKey(String browser, Path browserPath) {
+		try {
+			return browser + "|" + browserPath.toAbsolutePath() + "|"
+					+ Files.getLastModifiedTime(browserPath).toMillis();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static ResolvedBrowser readCache(String browser, String cacheKey, Path browserPath) {
+		String value = loadCache().getProperty(cacheKey);
+		if (value == null) {
+			return null;
+		}
+		// driver path|driver version|browser version; older two-field entries are resolved again
+		String[] parts = value.split("\\|", 3);
+		if (parts.length < 3 || !Files.isRegularFile(Paths.get(parts[0]))) {
+			return null;
+		}
+		return new ResolvedBrowser(browser, parts[0], parts[1], browserPath.toString(), parts[2]);
+	}
+
+	private static void writeCache(String cacheKey, ResolvedBrowser resolved) {
+		synchronized (cacheLock) {
+			Path cacheFile = Paths.get(Config.DRIVER_CACHE_FILE_PATH);
+			Properties cache = loadCache();
+			cache.setProperty(cacheKey, resolved.getDriverPath() + "|" + resolved.getDriverVersion() + "|"
+					+ resolved.getBrowserVersion());
+			try {
+				Files.createDirectories(cacheFile.getParent());
+				Path temp = Files.createTempFile(cacheFile.getParent(), "driver-cache", ".tmp");
+				try (OutputStream out = Files.newOutputStream(temp)) {
+					cache.store(out, "Resolved WebDriver binaries");
+				}
+				Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				logger.warn("Unable to write driver cache {}: {}", cacheFile, e.getMessage());
+			}
+		}
+	}
+
+	private static Properties loadCache() {
+		Properties cache = new Properties();
+		Path cacheFile = Paths.get(Config.DRIVER_CACHE_FILE_PATH);
+		synchronized (cacheLock) {
+			if (Files.isRegularFile(cacheFile)) {
+				try (InputStream in = Files.newInputStream(cacheFile)) {
+					cache.load(in);
+				} catch (IOException e) {
+					logger.warn("Unable to read driver cache {}: {}", cacheFile, e.getMessage());
+				}
+			}
+		}
+		return cache;
+	}
+
+	private static final class PhaseTiming {
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+
+		synchronized void add(long nanos) {
+			count++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("count=%d, total=%d ms, max=%d ms", count, TimeUnit.NANOSECONDS.toMillis(totalNanos),
+					TimeUnit.NANOSECONDS.toMillis(maxNanos));
+		}
+	}
+
+	private static final class ThreadFactoryImpl implements java.util.concurrent.ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "browser-bootstrap-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
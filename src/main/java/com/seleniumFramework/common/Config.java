@@ -66,7 +66,17 @@ public class Config {
 	public static final String VOICERSS_BASEURL = "http://api.voicerss.org/?";
 	
 	//Allure Screenshot capture
-	public static final String SCREENSHOT_CAPTURE = "Everystep";  //EveryStep or Laststep
+	public static final String SCREENSHOT_CAPTURE = "LastSteps";  //None, EveryStep, LastStep, LastSteps or Sampled
+	public static final int SCREENSHOT_RECENT_STEPS = 5;  //steps kept in memory by LastSteps, saved on failure
+	public static final int SCREENSHOT_SAMPLE_EVERY = 10;  //Sampled saves every Nth step
+	public static final boolean SCREENSHOT_STEP_ELEMENT_ONLY = true;  //step screenshots show the element acted on
+	public static final int SCREENSHOT_WRITER_THREADS = 2;
+	public static final int SCREENSHOT_QUEUE_CAPACITY = 64;
+	public static final String SCREENSHOT_FORMAT = "jpg";  //jpg, png, or webp with an ImageIO WebP plugin
+	public static final float SCREENSHOT_QUALITY = 0.7f;
+	public static final int SCREENSHOT_MAX_WIDTH = 1280;
+	public static final int SCREENSHOT_DEDUPE_DISTANCE = 3;  //bits of 256 that may differ; -1 stores every frame
+	public static final boolean SCREENSHOT_USE_CDP = true;  //Page.captureScreenshot on Chromium browsers
  	
 	//RemoteDriver config	
 	public static final int MAX_WAIT_TIME = 180;
@@ -77,6 +87,41 @@ public class Config {
 	public static final int LARGE_PAUSE = 60;
 	public static final int XLARGE_PAUSE = 120;
 	
+	//Browser start-up
+	public static final int BROWSER_BOOTSTRAP_THREADS = 4;
+	public static final String DRIVER_CACHE_FILE_PATH = System.getProperty("user.home") + "/.cache/seleniumFramework/driver-cache.properties";
+	// how long asking an installed browser for its version may take
+	public static final int BROWSER_VERSION_TIMEOUT_SECONDS = 10;
+	
+	//Session recycling
+	public static final int SESSION_MAX_USES = 50;
+	public static final long SESSION_HEALTH_CHECK_BUDGET_MS = 500;
+	public static final long SESSION_MAX_HEAP_GROWTH_MB = 256;
+	public static final int LEAN_RENDERER_PROCESS_LIMIT = 2;
+	
+	//Smart wait polling (backoff from initial to max interval)
+	public static final long SMART_WAIT_INITIAL_POLL_MS = 5;
+	public static final long SMART_WAIT_MAX_POLL_MS = 250;
+	
+	//Element highlighting
+	public static final long HIGHLIGHT_DURATION_MS = 500;
+	
+	//Table scanning (quiet period after the last DOM mutation of a new page)
+	public static final long TABLE_PAGE_SETTLE_MS = 50;
+	
+	//Reporting
+	public static final int REPORT_QUEUE_CAPACITY = 10_000;
+	public static final long REPORT_DRAIN_TIMEOUT_SECONDS = 60;
+	public static final int REPORT_FLUSH_EVERY_TESTS = 25;
+	public static final long REPORT_FLUSH_INTERVAL_SECONDS = 60;
+	public static final int REPORT_TESTS_PER_FILE = 500;
+	
+	//Test data
+	public static final long EXCEL_CACHE_MAX_MB = 256;
+	public static final boolean EXCEL_SNAPSHOT_ENABLED = true;
+	public static final int EXCEL_WRITE_WINDOW_ROWS = 100;
+	public static final int EXCEL_LOADER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+	
 	// File paths
 	
 	public static final String SELENIUM_GRID_FILE_PATH = System.getProperty("user.dir") + "\\src\\main\\resource\\grid\\SeleniumGrid.bat";
@@ -0,0 +1,471 @@
+package com.seleniumFramework.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.seleniumFramework.utilities.LocatorCache;
+
+/**
+ * Bounded pool of pre-launched WebDriver sessions.
+ *
+ * Sessions are launched in parallel when the pool is warmed up, leased to one
+ * test method at a time and reset (cookies, storage, extra windows,
+ * about:blank) when they are returned. The time each caller spends waiting for
+ * a lease is recorded so that an undersized pool shows up in the suite log.
+ *
+ * Every session is health-checked with a no-op script roundtrip before it is
+ * handed out again, and is evicted once it exceeds its maximum number of uses
+ * or its JavaScript heap has grown past the configured limit, so the pool can
+ * be kept alive across test classes and suites without leaking browser memory.
+ * The heap is sampled when a test returns the session, before the reset, so it
+ * measures the page the test left behind rather than about:blank.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public class DriverPool {
+
+	private static final Logger logger = LogManager.getLogger(DriverPool.class);
+	private static final String HEAP_SCRIPT = "return window.performance && window.performance.memory"
+			+ " ? window.performance.memory.usedJSHeapSize : null;";
+
+	private final int size;
+	private final Duration leaseTimeout;
+	private final Supplier<WebDriver> factory;
+	private final int maxUses;
+	private final long healthCheckBudgetMillis;
+	private final long maxHeapGrowthBytes;
+	private final LinkedBlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+	private final Map<WebDriver, SessionStats> sessions = new ConcurrentHashMap<>();
+	private final AtomicInteger reserved = new AtomicInteger();
+	private final AtomicLong leaseCount = new AtomicLong();
+	private final AtomicLong leaseWaitNanos = new AtomicLong();
+	private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+	private final AtomicLong unhealthyEvictions = new AtomicLong();
+	private final AtomicLong maxUsesEvictions = new AtomicLong();
+	private final AtomicLong memoryEvictions = new AtomicLong();
+	private volatile ExecutorService launcher;
+	private volatile ExecutorService ownedLauncher;
+	private volatile boolean closed;
+
+	/********************************************************************************************
+	 * Creates a pool that holds at most {@code size} sessions, using the
+	 * recycling limits from {@link Config}.
+	 *
+	 * @param size         the maximum number of concurrent sessions
+	 * @param leaseTimeout how long {@link #lease()} waits for a free session
+	 * @param factory      launches a new, fully configured WebDriver session
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public DriverPool(int size, Duration leaseTimeout, Supplier<WebDriver> factory) {
+		this(size, leaseTimeout, factory, Config.SESSION_MAX_USES, Config.SESSION_HEALTH_CHECK_BUDGET_MS,
+				Config.SESSION_MAX_HEAP_GROWTH_MB);
+	}
+
+	/********************************************************************************************
+	 * Creates a pool that holds at most {@code size} sessions.
+	 *
+	 * @param size                    the maximum number of concurrent sessions
+	 * @param leaseTimeout            how long {@link #lease()} waits for a free
+	 *                                session
+	 * @param factory                 launches a new, fully configured WebDriver
+	 *                                session
+	 * @param maxUses                 number of leases after which a session is
+	 *                                evicted, 0 for unlimited
+	 * @param healthCheckBudgetMillis maximum latency of the health check
+	 *                                roundtrip before a session is evicted
+	 * @param maxHeapGrowthMb         JavaScript heap growth over the first
+	 *                                sample after which a session is evicted, 0
+	 *                                to disable
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public DriverPool(int size, Duration leaseTimeout, Supplier<WebDriver> factory, int maxUses,
+			long healthCheckBudgetMillis, long maxHeapGrowthMb) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Driver pool size must be at least 1 but was " + size);
+		}
+		this.size = size;
+		this.leaseTimeout = leaseTimeout;
+		this.factory = factory;
+		this.maxUses = maxUses;
+		this.healthCheckBudgetMillis = healthCheckBudgetMillis;
+		this.maxHeapGrowthBytes = maxHeapGrowthMb * 1024 * 1024;
+	}
+
+	/********************************************************************************************
+	 * Launches every session of the pool at once, on an executor with one thread
+	 * per session that the pool owns and shuts down with it, and waits for them
+	 * to come up.
+	 *
+	 * @throws IllegalStateException if not a single session could be launched
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void prewarm() {
+		AtomicInteger threads = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "driver-pool-launcher-" + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		// idle between evictions, so the threads do not outlive their use
+		executor.allowCoreThreadTimeOut(true);
+		ownedLauncher = executor;
+		prewarm(executor);
+	}
+
+	/********************************************************************************************
+	 * Launches every session of the pool in parallel and waits for them to come
+	 * up. Sessions that fail to launch are logged and launched lazily on a later
+	 * lease instead. The executor is also used to replace evicted sessions in the
+	 * background; with fewer threads than sessions, the sessions start in waves.
+	 *
+	 * @param launcher the executor the sessions are launched on
+	 * @throws IllegalStateException if not a single session could be launched
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void prewarm(ExecutorService launcher) {
+		this.launcher = launcher;
+		long start = System.nanoTime();
+		List<Future<WebDriver>> launches = new ArrayList<>();
+		while (reserveSlot()) {
+			launches.add(launcher.submit(this::launch));
+		}
+		int started = 0;
+		for (Future<WebDriver> launch : launches) {
+			try {
+				idle.offer(launch.get());
+				started++;
+			} catch (Exception e) {
+				logger.error("Failed to pre-launch WebDriver session: {}", e.getMessage(), e);
+			}
+		}
+		if (started == 0 && idle.isEmpty()) {
+			throw new IllegalStateException("Unable to launch any WebDriver session for the driver pool.");
+		}
+		logger.info("Driver pool warmed up with {}/{} sessions in {} ms", idle.size(), size,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/********************************************************************************************
+	 * Leases a session for exclusive use by the calling test. Idle sessions are
+	 * health-checked first; a new session is launched on demand while the pool is
+	 * below its capacity, otherwise the call blocks until another test returns
+	 * one.
+	 *
+	 * @return a reset, healthy WebDriver session
+	 * @throws IllegalStateException if no session became available within the
+	 *                               lease timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public WebDriver lease() {
+		if (closed) {
+			throw new IllegalStateException("Driver pool is already shut down.");
+		}
+		long start = System.nanoTime();
+		long deadline = start + leaseTimeout.toNanos();
+		WebDriver webDriver = null;
+		while (webDriver == null) {
+			WebDriver candidate = idle.poll();
+			if (candidate == null && reserveSlot()) {
+				webDriver = launch();
+				break;
+			}
+			if (candidate == null) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				try {
+					candidate = idle.poll(remaining, TimeUnit.NANOSECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for a WebDriver session.", e);
+				}
+			}
+			if (candidate != null && isHealthy(candidate)) {
+				webDriver = candidate;
+			} else if (candidate != null) {
+				unhealthyEvictions.incrementAndGet();
+				discard(candidate);
+			}
+		}
+		if (webDriver == null) {
+			throw new IllegalStateException(
+					"No WebDriver session became available within " + leaseTimeout.getSeconds() + " seconds.");
+		}
+		long waited = System.nanoTime() - start;
+		leaseCount.incrementAndGet();
+		leaseWaitNanos.addAndGet(waited);
+		maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+		logger.debug("Leased WebDriver session after waiting {} ms", TimeUnit.NANOSECONDS.toMillis(waited));
+		return webDriver;
+	}
+
+	/********************************************************************************************
+	 * Returns a leased session to the pool. The session is reset before it is
+	 * handed to the next test; sessions that cannot be reset, have reached their
+	 * maximum number of uses or have grown past the heap limit are quit and
+	 * replaced in the background.
+	 *
+	 * @param webDriver the session obtained from {@link #lease()}
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void release(WebDriver webDriver) {
+		SessionStats stats = webDriver == null ? null : sessions.get(webDriver);
+		if (stats == null) {
+			return;
+		}
+		if (closed) {
+			discard(webDriver);
+			return;
+		}
+		// sampled before the reset, while the test's page is still loaded
+		Long heap = usedJsHeap(webDriver);
+		try {
+			reset(webDriver);
+		} catch (Exception e) {
+			logger.warn("Discarding WebDriver session that could not be reset: {}", e.getMessage());
+			evict(webDriver);
+			return;
+		}
+		stats.uses++;
+		if (maxUses > 0 && stats.uses >= maxUses) {
+			logger.info("Evicting WebDriver session after {} uses", stats.uses);
+			maxUsesEvictions.incrementAndGet();
+			evict(webDriver);
+			return;
+		}
+		if (heap != null) {
+			stats.lastHeap = heap;
+			if (stats.baselineHeap < 0) {
+				stats.baselineHeap = heap;
+			} else if (maxHeapGrowthBytes > 0 && heap - stats.baselineHeap > maxHeapGrowthBytes) {
+				logger.info("Evicting WebDriver session whose JS heap grew by {} MB",
+						(heap - stats.baselineHeap) / (1024 * 1024));
+				memoryEvictions.incrementAndGet();
+				evict(webDriver);
+				return;
+			}
+		}
+		idle.offer(webDriver);
+	}
+
+	/********************************************************************************************
+	 * Quits every session owned by the pool and logs the lease statistics.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void shutdown() {
+		closed = true;
+		idle.clear();
+		if (ownedLauncher != null) {
+			ownedLauncher.shutdownNow();
+		}
+		String summary = stats();
+		for (WebDriver webDriver : sessions.keySet()) {
+			discard(webDriver);
+		}
+		logger.info("Driver pool shut down. {}", summary);
+	}
+
+	/********************************************************************************************
+	 * Summarises how long tests waited to lease a session, how many sessions were
+	 * evicted, and per live session the JavaScript heap of the last page a test
+	 * left in it and how far that heap has grown since the session's first test.
+	 *
+	 * @return the pool statistics as a single log-friendly line
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.1 October 18, 2026
+	 ********************************************************************************************/
+	public String stats() {
+		long leases = leaseCount.get();
+		long totalMillis = TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get());
+		long sampled = 0;
+		long heapTotal = 0;
+		long heapMax = 0;
+		long growthMax = 0;
+		for (SessionStats stats : sessions.values()) {
+			long lastHeap = stats.lastHeap;
+			if (lastHeap >= 0) {
+				sampled++;
+				heapTotal += lastHeap;
+				heapMax = Math.max(heapMax, lastHeap);
+				growthMax = Math.max(growthMax, lastHeap - stats.baselineHeap);
+			}
+		}
+		return String.format(Locale.ROOT,
+				"size=%d, leases=%d, totalLeaseWait=%d ms, avgLeaseWait=%d ms, maxLeaseWait=%d ms, "
+						+ "evictions(unhealthy=%d, maxUses=%d, memory=%d), "
+						+ "jsHeapPerSession(sampled=%d, avg=%.1f MB, max=%.1f MB, maxGrowth=%.1f MB)",
+				size, leases, totalMillis, leases == 0 ? 0 : totalMillis / leases,
+				TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()), unhealthyEvictions.get(),
+				maxUsesEvictions.get(), memoryEvictions.get(), sampled,
+				sampled == 0 ? 0.0 : megabytes(heapTotal / sampled), megabytes(heapMax), megabytes(growthMax));
+	}
+
+	private static double megabytes(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+
+	private boolean reserveSlot() {
+		int current;
+		do {
+			current = reserved.get();
+			if (current >= size) {
+				return false;
+			}
+		} while (!reserved.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	private WebDriver launch() {
+		try {
+			WebDriver webDriver = factory.get();
+			if (webDriver instanceof HasCdp) {
+				try {
+					// Performance.getMetrics reports nothing until the domain is enabled
+					((HasCdp) webDriver).executeCdpCommand("Performance.enable", Collections.emptyMap());
+				} catch (Exception e) {
+					logger.debug("Unable to enable DevTools performance metrics: {}", e.getMessage());
+				}
+			}
+			sessions.put(webDriver, new SessionStats());
+			return webDriver;
+		} catch (RuntimeException e) {
+			reserved.decrementAndGet();
+			throw e;
+		}
+	}
+
+	private boolean isHealthy(WebDriver webDriver) {
+		long start = System.nanoTime();
+		try {
+			Object result = ((JavascriptExecutor) webDriver).executeScript("return 1;");
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			if (result == null || elapsedMillis > healthCheckBudgetMillis) {
+				logger.warn("WebDriver session failed health check (result={}, {} ms > {} ms budget)", result,
+						elapsedMillis, healthCheckBudgetMillis);
+				return false;
+			}
+			return true;
+		} catch (Exception e) {
+			logger.warn("WebDriver session failed health check: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * The JavaScript heap in use by the current page: exact, from DevTools
+	 * Performance.getMetrics on Chromium browsers, otherwise from
+	 * performance.memory where the browser has it; null if neither is available.
+	 */
+	private Long usedJsHeap(WebDriver webDriver) {
+		try {
+			if (webDriver instanceof HasCdp) {
+				Object metrics = ((HasCdp) webDriver).executeCdpCommand("Performance.getMetrics",
+						Collections.emptyMap()).get("metrics");
+				if (metrics instanceof List) {
+					for (Object metric : (List<?>) metrics) {
+						Map<?, ?> entry = (Map<?, ?>) metric;
+						if ("JSHeapUsedSize".equals(entry.get("name")) && entry.get("value") instanceof Number) {
+							return ((Number) entry.get("value")).longValue();
+						}
+					}
+				}
+			}
+			Object heap = ((JavascriptExecutor) webDriver).executeScript(HEAP_SCRIPT);
+			return heap instanceof Number ? ((Number) heap).longValue() : null;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private void reset(WebDriver webDriver) {
+		List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+		for (int i = 1; i < handles.size(); i++) {
+			webDriver.switchTo().window(handles.get(i)).close();
+		}
+		webDriver.switchTo().window(handles.get(0));
+		webDriver.manage().deleteAllCookies();
+		((JavascriptExecutor) webDriver).executeScript(
+				"try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+		webDriver.get("about:blank");
+		LocatorCache.forDriver(webDriver).invalidate();
+	}
+
+	private void evict(WebDriver webDriver) {
+		discard(webDriver);
+		ExecutorService executor = launcher;
+		if (executor != null && !closed && reserveSlot()) {
+			executor.submit(() -> {
+				try {
+					WebDriver replacement = launch();
+					if (closed) {
+						discard(replacement);
+					} else {
+						idle.offer(replacement);
+					}
+				} catch (Exception e) {
+					logger.error("Failed to replace evicted WebDriver session: {}", e.getMessage(), e);
+				}
+			});
+		}
+	}
+
+	private void discard(WebDriver webDriver) {
+		if (sessions.remove(webDriver) != null) {
+			reserved.decrementAndGet();
+			LocatorCache.remove(webDriver);
+			try {
+				webDriver.quit();
+			} catch (Exception e) {
+				logger.warn("Error while quitting pooled WebDriver session: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Per-session bookkeeping; only written by the thread holding the lease.
+	 */
+	private static final class SessionStats {
+		private int uses;
+		// read by stats() from any thread
+		private volatile long baselineHeap = -1;
+		private volatile long lastHeap = -1;
+	}
+}
@@ -5,14 +5,14 @@ import java.time.Duration;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.seleniumFramework.common.BaseClass;
 import com.seleniumFramework.utilities.ElementInteractionUtils;
 import com.seleniumFramework.utilities.ExtentReportListener;
+import com.seleniumFramework.utilities.PageElements;
+import com.seleniumFramework.utilities.ReportNode;
 
 public class LoginPage extends BaseClass {
 
@@ -22,19 +22,19 @@ public class LoginPage extends BaseClass {
 	// constructor
 	public LoginPage(WebDriver webDriver) {
 		this.driver = BaseClass.getDriver();
-		PageFactory.initElements(driver, this);
+		PageElements.initElements(driver, this);
 		wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 	}
 
 	// Create parent test node
-	ExtentTest parentTest = ExtentReportListener.createParentTest("Login Test", "Verify that login functionality works")
+	ReportNode parentTest = ExtentReportListener.createParentTest("Login Test", "Verify that login functionality works")
 			.assignAuthor("Abhijeet Maske");
 
 	// Assign tags
 	// ExtentReportListener.tags("Regression", "Smoke");
 
 	// Create a child node for the actual test steps
-	ExtentTest test = parentTest.createNode("Login Functionality Test");
+	ReportNode test = parentTest.createNode("Login Functionality Test");
 
 	LoginPage loginPage = new LoginPage(getDriver());
 
@@ -60,7 +60,6 @@ public class LoginPage extends BaseClass {
 		boolean status = false;
 		try {
 			wait.until(ExpectedConditions.elementToBeClickable(signUpButton));
-			ElementInteractionUtils.highlightElement(signUpButton);
 			ElementInteractionUtils.click(signUpButton);
 			status = true;
 		} catch (Exception e) {
@@ -5,11 +5,11 @@ import java.time.Duration;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import com.aventstack.extentreports.Status;
 import com.seleniumFramework.utilities.ElementInteractionUtils;
 import com.seleniumFramework.utilities.ExtentReportListener;
+import com.seleniumFramework.utilities.PageElements;
 
 public class youtubePage {
 	protected WebDriver driver;
@@ -21,7 +21,7 @@ public class youtubePage {
             throw new IllegalArgumentException("WebDriver instance cannot be null.");
         }		
 		this.driver = driver;
-		PageFactory.initElements(driver, this);
+		PageElements.initElements(driver, this);
 		wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 	}
 
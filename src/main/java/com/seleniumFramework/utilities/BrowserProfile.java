@@ -0,0 +1,65 @@
+package com.seleniumFramework.utilities;
+
+/**
+ * Browser launch profiles selectable through the {@code browserProfile} suite
+ * parameter or config.properties entry.
+ *
+ * <ul>
+ * <li>{@code default} - browser defaults, as launched before profiles existed</li>
+ * <li>{@code debug} - headed, maximised window for local debugging</li>
+ * <li>{@code ci} - new headless mode with a fixed 1920x1080 viewport</li>
+ * <li>{@code lean-headless} - {@code ci} without images, web fonts, extensions
+ * or background services and with a capped renderer process count, so more
+ * sessions fit on one machine</li>
+ * </ul>
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public enum BrowserProfile {
+
+	DEFAULT("default"), DEBUG("debug"), CI("ci"), LEAN_HEADLESS("lean-headless");
+
+	private final String profileName;
+
+	BrowserProfile(String profileName) {
+		this.profileName = profileName;
+	}
+
+	public String getProfileName() {
+		return profileName;
+	}
+
+	public boolean isHeadless() {
+		return this == CI || this == LEAN_HEADLESS;
+	}
+
+	/********************************************************************************************
+	 * Looks up a profile by its name as used in suite XML and config.properties.
+	 *
+	 * @param name the profile name, e.g. lean-headless; null or blank selects the
+	 *             default profile
+	 * @return the matching profile
+	 * @throws IllegalArgumentException if no profile has the given name
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static BrowserProfile fromName(String name) {
+		if (name == null || name.trim().isEmpty()) {
+			return DEFAULT;
+		}
+		for (BrowserProfile profile : values()) {
+			if (profile.profileName.equalsIgnoreCase(name.trim())) {
+				return profile;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported browser profile: " + name);
+	}
+
+	@Override
+	public String toString() {
+		return profileName;
+	}
+}
@@ -1,31 +1,30 @@
 package com.seleniumFramework.utilities;
 
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.seleniumFramework.common.BrowserBootstrap;
+import com.seleniumFramework.common.Config;
+
 public class BrowserUtils {
 	private static final Logger logger = LogManager.getLogger(BrowserUtils.class);
 
 	/**
-     * Retrieves the version of the Chrome browser.
+     * Retrieves the version of the Chrome browser. The version is resolved once
+     * per JVM through {@link BrowserBootstrap} without launching the browser.
      * 
      * @return The version of the Chrome browser.
      */
 	
     public static String getChromeBrowserVersion() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        WebDriver driver = new ChromeDriver(options);
-        return getBrowserVersion(driver, "Chrome/");
+        return BrowserBootstrap.resolve("chrome").getBrowserVersion();
     }
     
     /**
@@ -34,10 +33,7 @@ public class BrowserUtils {
      * @return The version of the Edge browser.
      */
     public static String getEdgeBrowserVersion() {
-        WebDriverManager.edgedriver().setup();
-        EdgeOptions options = new EdgeOptions();
-        WebDriver driver = new EdgeDriver(options);
-        return getBrowserVersion(driver, "Edg/");
+        return BrowserBootstrap.resolve("edge").getBrowserVersion();
     }
     
     /**
@@ -46,33 +42,9 @@ public class BrowserUtils {
      * @return The version of the Firefox browser.
      */
     public static String getFirefoxBrowserVersion() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        WebDriver driver = new FirefoxDriver(options);
-        return getBrowserVersion(driver, "Firefox/");
+        return BrowserBootstrap.resolve("firefox").getBrowserVersion();
     }
 
-//    public static String getOperaBrowserVersion() {
-//        WebDriverManager.operadriver().setup();
-//        OperaOptions options = new OperaOptions();
-//        WebDriver driver = new OperaDriver(options);
-//        return getBrowserVersion(driver, "OPR/");
-//    }
-
-    private static String getBrowserVersion(WebDriver driver, String browserIdentifier) {
-        String version = "";
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            version = (String) js.executeScript("return navigator.userAgent;");
-            if (version.contains(browserIdentifier)) {
-                version = version.substring(version.indexOf(browserIdentifier) + browserIdentifier.length());
-                version = version.split(" ")[0];
-            }
-        } finally {
-            driver.quit();
-        }
-        return version;
-    }
     /**
      * Configures Chrome browser options.
      * 
@@ -141,4 +113,99 @@ public class BrowserUtils {
         logger.info("Edge options configured");
         return options;
     }
-}
\ No newline at end of file
+
+    /********************************************************************************************
+     * Configures Chrome browser options for a launch profile.
+     * 
+     * @param profile the browser profile to apply
+     * @return the configured ChromeOptions object
+     * 
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static ChromeOptions configureChromeOptions(BrowserProfile profile) {
+        ChromeOptions options = new ChromeOptions();
+        applyChromiumProfile(options, profile);
+        logger.info("Chrome options configured for profile: {}", profile);
+        return options;
+    }
+
+    /********************************************************************************************
+     * Configures Firefox browser options for a launch profile.
+     * 
+     * @param profile the browser profile to apply
+     * @return the configured FirefoxOptions object
+     * 
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static FirefoxOptions configureFirefoxOptions(BrowserProfile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+        if (profile != BrowserProfile.DEFAULT) {
+            options.addPreference("dom.webnotifications.enabled", false);
+            options.addPreference("privacy.popups.showBrowserMessage", false);
+        }
+        if (profile.isHeadless()) {
+            options.addArguments("-headless", "--width=1920", "--height=1080");
+        }
+        if (profile == BrowserProfile.LEAN_HEADLESS) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+            options.addPreference("browser.display.use_document_fonts", 0);
+            options.addPreference("dom.ipc.processCount", Config.LEAN_RENDERER_PROCESS_LIMIT);
+            options.addPreference("extensions.enabledScopes", 0);
+            options.addPreference("media.autoplay.default", 5);
+            options.addPreference("app.update.enabled", false);
+            options.addPreference("browser.cache.disk.enable", false);
+        }
+        logger.info("Firefox options configured for profile: {}", profile);
+        return options;
+    }
+
+    /********************************************************************************************
+     * Configures Edge browser options for a launch profile.
+     * 
+     * @param profile the browser profile to apply
+     * @return the configured EdgeOptions object
+     * 
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static EdgeOptions configureEdgeOptions(BrowserProfile profile) {
+        EdgeOptions options = new EdgeOptions();
+        applyChromiumProfile(options, profile);
+        logger.info("Edge options configured for profile: {}", profile);
+        return options;
+    }
+
+    private static void applyChromiumProfile(ChromiumOptions<?> options, BrowserProfile profile) {
+        if (profile == BrowserProfile.DEFAULT) {
+            return;
+        }
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-notifications");
+        if (profile == BrowserProfile.DEBUG) {
+            options.addArguments("--start-maximized");
+            return;
+        }
+        options.addArguments("--headless=new");
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-extensions");
+        if (profile == BrowserProfile.LEAN_HEADLESS) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.addArguments("--disable-remote-fonts");
+            options.addArguments("--renderer-process-limit=" + Config.LEAN_RENDERER_PROCESS_LIMIT);
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--mute-audio");
+            options.addArguments("--no-first-run");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link DataSource} for comma-separated files (RFC 4180).
+ *
+ * Fields may be quoted; quoted fields can contain commas, line breaks and
+ * doubled quotes. Lines may end with LF or CRLF, a UTF-8 byte order mark is
+ * skipped and empty lines are ignored. The file is memory-mapped and unquoted
+ * fields are decoded straight from the mapping.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class CsvDataSource implements DataSource {
+
+	private static final Set<String> EXTENSIONS = Collections.singleton("csv");
+
+	@Override
+	public Set<String> getExtensions() {
+		return EXTENSIONS;
+	}
+
+	@Override
+	public Iterator<Object[]> open(String filePath, String sheetName) throws IOException {
+		return new CsvRowIterator(filePath);
+	}
+
+	private static final class CsvRowIterator extends MappedRowIterator {
+		private static final byte COMMA = ',';
+		private static final byte QUOTE = '"';
+		private static final byte CR = '\r';
+		private static final byte LF = '\n';
+
+		private final List<Object> fields = new ArrayList<>();
+
+		private CsvRowIterator(String filePath) throws IOException {
+			super(filePath);
+		}
+
+		@Override
+		protected Object[] readRow() {
+			while (position < limit && isLineEnd(buffer.get(position))) {
+				lineNumber++;
+				skipLineEnd();
+			}
+			if (position >= limit) {
+				return null;
+			}
+			lineNumber++;
+			fields.clear();
+			while (true) {
+				fields.add(buffer.get(position) == QUOTE ? readQuoted() : readUnquoted());
+				if (position >= limit) {
+					break;
+				}
+				byte next = buffer.get(position);
+				if (next == COMMA) {
+					position++;
+					if (position >= limit) {
+						fields.add("");
+						break;
+					}
+				} else {
+					skipLineEnd();
+					break;
+				}
+			}
+			return fields.toArray();
+		}
+
+		private String readUnquoted() {
+			int start = position;
+			while (position < limit) {
+				byte value = buffer.get(position);
+				if (value == COMMA || isLineEnd(value)) {
+					break;
+				}
+				position++;
+			}
+			return decode(start, position);
+		}
+
+		private String readQuoted() {
+			position++;
+			resetScratch();
+			int start = position;
+			while (true) {
+				if (position >= limit) {
+					throw malformed("Unterminated quoted field");
+				}
+				byte value = buffer.get(position);
+				if (value == LF) {
+					lineNumber++;
+				}
+				if (value != QUOTE) {
+					position++;
+					continue;
+				}
+				appendToScratch(start, position);
+				position++;
+				if (position < limit && buffer.get(position) == QUOTE) {
+					appendToScratch(QUOTE);
+					position++;
+					start = position;
+					continue;
+				}
+				break;
+			}
+			if (position < limit && buffer.get(position) != COMMA && !isLineEnd(buffer.get(position))) {
+				throw malformed("Unexpected character after quoted field");
+			}
+			return scratchString();
+		}
+
+		private void skipLineEnd() {
+			if (buffer.get(position) == CR) {
+				position++;
+			}
+			if (position < limit && buffer.get(position) == LF) {
+				position++;
+			}
+		}
+
+		private static boolean isLineEnd(byte value) {
+			return value == LF || value == CR;
+		}
+	}
+}
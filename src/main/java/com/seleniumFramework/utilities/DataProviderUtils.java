@@ -1,10 +1,8 @@
 package com.seleniumFramework.utilities;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.ITestContext;
 import org.testng.annotations.DataProvider;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -17,7 +15,10 @@ public class DataProviderUtils {
 
 	/********************************************************************************************
 	 * Reads data from the specified Excel file and sheet, and provides it to TestNG
-	 * tests.
+	 * tests. The sheet is streamed with {@link ExcelSheetReader}, so no workbook
+	 * object model is built, and is shared through the {@link ExcelSheetCache}
+	 * until the file changes. Once parsed, the sheet is also compiled into an
+	 * {@link ExcelSnapshot} that later runs load instead of the workbook.
 	 * 
 	 * @param filePath  the path of the Excel file to read data from
 	 * @param sheetName the name of the sheet from which data is to be read
@@ -26,108 +27,245 @@ public class DataProviderUtils {
 	 * @throws IOException if there is an error reading the file
 	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.2 October 18, 2026
 	 ********************************************************************************************/
 
 	public static Object[][] getExcelData(String filePath, String sheetName) throws IOException {
-		List<List<String>> excelData = new ArrayList<>();
-		Workbook workbook = null;
-		try (FileInputStream fileInputStream = new FileInputStream(filePath)) {
-			workbook = new XSSFWorkbook(fileInputStream);
-			Sheet sheet = workbook.getSheet(sheetName);
-			if (sheet == null) {
-				logger.error("Sheet {} does not exist in {}", sheetName, filePath);
-				throw new IllegalArgumentException("Sheet " + sheetName + " does not exist in " + filePath);
-			}
-
-			Iterator<Row> rowIterator = sheet.iterator();
-			while (rowIterator.hasNext()) {
-				Row row = rowIterator.next();
-				List<String> rowData = new ArrayList<>();
-				Iterator<Cell> cellIterator = row.cellIterator();
-				while (cellIterator.hasNext()) {
-					Cell cell = cellIterator.next();
-					rowData.add(getCellValueAsString(cell));
-				}
-				excelData.add(rowData);
+		try {
+			List<List<String>> rows = ExcelSheetCache.getSheet(filePath, sheetName);
+			Object[][] dataArray = new Object[rows.size()][];
+			for (int i = 0; i < rows.size(); i++) {
+				dataArray[i] = rows.get(i).toArray();
 			}
 			logger.info("Successfully read data from Excel file: {}", filePath);
+			return dataArray;
 		} catch (IOException e) {
 			logger.error("Exception while reading Excel file: {}", e.getMessage(), e);
 			throw e;
-		} finally {
-			if (workbook != null) {
-				try {
-					workbook.close();
-					logger.info("Workbook closed successfully.");
-				} catch (IOException e) {
-					logger.error("Failed to close the workbook: {}", e.getMessage(), e);
-				}
-			}
 		}
+	}
 
-		// Convert List<List<String>> to Object[][]
-		Object[][] dataArray = new Object[excelData.size()][];
-		for (int i = 0; i < excelData.size(); i++) {
-			List<String> row = excelData.get(i);
-			dataArray[i] = row.toArray(new Object[0]);
+	/********************************************************************************************
+	 * Provides the rows of the specified Excel sheet one at a time. The sheet is
+	 * opened on the first row and closed after the last one, so tests can start
+	 * before the sheet has been read completely.
+	 * 
+	 * @param filePath  the path of the Excel file to read data from
+	 * @param sheetName the name of the sheet from which data is to be read
+	 * @return a lazy iterator over the rows of the sheet
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Iterator<Object[]> getExcelDataLazily(String filePath, String sheetName) {
+		return new ExcelRowIterator(filePath, sheetName);
+	}
+
+	/********************************************************************************************
+	 * Reads all rows of a data file in any supported format, chosen by the file
+	 * extension: Excel (.xlsx, .xlsm), CSV (.csv) or JSON lines (.jsonl,
+	 * .ndjson). See {@link DataSources}.
+	 * 
+	 * @param filePath  the path of the data file
+	 * @param sheetName the sheet to read for Excel files; ignored otherwise
+	 * @return a 2D array of objects representing the data to be provided to the
+	 *         tests
+	 * @throws IOException if there is an error reading the file
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Object[][] getData(String filePath, String sheetName) throws IOException {
+		try {
+			Object[][] dataArray = DataSources.forFile(filePath).readAll(filePath, sheetName);
+			logger.info("Successfully read {} row(s) from data file: {}", dataArray.length, filePath);
+			return dataArray;
+		} catch (IOException e) {
+			logger.error("Exception while reading data file: {}", e.getMessage(), e);
+			throw e;
 		}
-		return dataArray;
 	}
 
 	/********************************************************************************************
-	 * Converts the cell value to a string based on its type.
+	 * Provides the rows of a data file in any supported format one at a time, so
+	 * large generated datasets are never held in memory as a whole.
 	 * 
-	 * @param cell the cell whose value is to be converted
-	 * @return the cell value as a string
+	 * @param filePath  the path of the data file
+	 * @param sheetName the sheet to read for Excel files; ignored otherwise
+	 * @return a lazy iterator over the rows of the file
+	 * @throws IOException if the file cannot be opened
 	 * 
-	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
 	 ********************************************************************************************/
+	public static Iterator<Object[]> getDataLazily(String filePath, String sheetName) throws IOException {
+		return DataSources.forFile(filePath).open(filePath, sheetName);
+	}
 
-	private static String getCellValueAsString(Cell cell) {
-		String cellValue;
-		switch (cell.getCellType()) {
-		case STRING:
-			cellValue = cell.getStringCellValue();
-			break;
-		case NUMERIC:
-			if (DateUtil.isCellDateFormatted(cell)) {
-				cellValue = cell.getDateCellValue().toString();
-			} else {
-				cellValue = Double.toString(cell.getNumericCellValue());
+	/********************************************************************************************
+	 * Provides the data rows of the specified Excel sheet as typed records, one
+	 * {@link ExcelRecord} per invocation. The first row of the sheet is read as
+	 * the header, so tests access cells by column name and in their typed form.
+	 * 
+	 * @param filePath  the path of the Excel file to read data from
+	 * @param sheetName the name of the sheet from which data is to be read
+	 * @return a 2D array with one record per row
+	 * @throws IOException if there is an error reading the file
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Object[][] getExcelRecords(String filePath, String sheetName) throws IOException {
+		try {
+			ExcelTable table = ExcelSheetCache.getTable(filePath, sheetName);
+			Object[][] dataArray = new Object[table.size()][];
+			for (ExcelRecord record : table) {
+				dataArray[record.getRowIndex()] = new Object[] { record };
 			}
-			break;
-		case BOOLEAN:
-			cellValue = Boolean.toString(cell.getBooleanCellValue());
-			break;
-		case FORMULA:
-			cellValue = cell.getCellFormula();
-			break;
-		case BLANK:
-			cellValue = "";
-			break;
-		default:
-			cellValue = "";
+			logger.info("Successfully read records from Excel file: {}", filePath);
+			return dataArray;
+		} catch (IOException e) {
+			logger.error("Exception while reading Excel file: {}", e.getMessage(), e);
+			throw e;
 		}
-		return cellValue;
 	}
 
 	/********************************************************************************************
-	 * DataProvider method to provide data from an Excel file to TestNG tests.
+	 * Provides the typed records of the specified Excel sheet that belong to a
+	 * shard, partitioned by a stable hash of a key column. Running every shard,
+	 * e.g. one per JVM fork, runs each row exactly once.
 	 * 
-	 * @return a 2D array of objects representing the data to be provided to the
-	 *         tests
+	 * @param filePath  the path of the Excel file to read data from
+	 * @param sheetName the name of the sheet from which data is to be read
+	 * @param keyColumn the header of the column whose value identifies a row
+	 * @param shard     the shard whose rows are provided
+	 * @return a 2D array with one record per row of the shard
 	 * @throws IOException if there is an error reading the file
 	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Object[][] getExcelRecordShard(String filePath, String sheetName, String keyColumn,
+			DataShard shard) throws IOException {
+		try {
+			ExcelTable table = ExcelSheetCache.getTable(filePath, sheetName);
+			table.columnIndex(keyColumn);
+			List<Object[]> dataList = new ArrayList<>();
+			for (ExcelRecord record : table) {
+				if (shard.owns(record.getString(keyColumn))) {
+					dataList.add(new Object[] { record });
+				}
+			}
+			logger.info("Read {} of {} record(s) for {} from Excel file: {}", dataList.size(), table.size(), shard,
+					filePath);
+			return dataList.toArray(new Object[0][]);
+		} catch (IOException e) {
+			logger.error("Exception while reading Excel file: {}", e.getMessage(), e);
+			throw e;
+		}
+	}
+
+	/********************************************************************************************
+	 * Provides the rows of the specified Excel sheet that belong to a shard,
+	 * partitioned by a stable hash of the cell at the key column index. Like
+	 * {@link #getExcelData(String, String)}, every row of the sheet is data.
+	 * 
+	 * @param filePath  the path of the Excel file to read data from
+	 * @param sheetName the name of the sheet from which data is to be read
+	 * @param keyColumn the zero-based index of the cell that identifies a row
+	 * @param shard     the shard whose rows are provided
+	 * @return a 2D array of the rows of the shard
+	 * @throws IOException if there is an error reading the file
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Object[][] getExcelDataShard(String filePath, String sheetName, int keyColumn, DataShard shard)
+			throws IOException {
+		try {
+			List<List<String>> rows = ExcelSheetCache.getSheet(filePath, sheetName);
+			List<Object[]> dataList = new ArrayList<>();
+			for (List<String> row : rows) {
+				if (shard.owns(keyColumn < row.size() ? row.get(keyColumn) : "")) {
+					dataList.add(row.toArray());
+				}
+			}
+			logger.info("Read {} of {} row(s) for {} from Excel file: {}", dataList.size(), rows.size(), shard,
+					filePath);
+			return dataList.toArray(new Object[0][]);
+		} catch (IOException e) {
+			logger.error("Exception while reading Excel file: {}", e.getMessage(), e);
+			throw e;
+		}
+	}
+
+	/********************************************************************************************
+	 * DataProvider method to provide data from an Excel file to TestNG tests.
+	 * Rows are read lazily as TestNG consumes them.
+	 * 
+	 * @return an iterator over the rows to be provided to the tests
+	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
 	@DataProvider(name = "excelDataProvider")
-	public Object[][] excelDataProvider() throws IOException {
+	public Iterator<Object[]> excelDataProvider() {
 		String filePath = "path/to/excel/file.xlsx";
 		String sheetName = "Sheet1";
-		return getExcelData(filePath, sheetName);
+		return getExcelDataLazily(filePath, sheetName);
+	}
+
+	/********************************************************************************************
+	 * DataProvider method to provide typed, header-aware records from an Excel
+	 * file to TestNG tests. Test methods take a single {@link ExcelRecord}.
+	 * 
+	 * @return a 2D array with one record per row
+	 * @throws IOException if there is an error reading the file
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	@DataProvider(name = "excelRecordProvider")
+	public Object[][] excelRecordProvider() throws IOException {
+		String filePath = "path/to/excel/file.xlsx";
+		String sheetName = "Sheet1";
+		return getExcelRecords(filePath, sheetName);
+	}
+
+	/********************************************************************************************
+	 * Parallel DataProvider method that provides this worker's shard of typed
+	 * records, keyed by the TestCaseId column. The shard comes from the
+	 * dataShardIndex (or one-based dataShardNumber) and dataShardCount
+	 * parameters or system properties, see {@link DataShard}.
+	 * 
+	 * @param context the TestNG context of the test
+	 * @return a 2D array with one record per row of the shard
+	 * @throws IOException if there is an error reading the file
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	@DataProvider(name = "excelShardedRecordProvider", parallel = true)
+	public Object[][] excelShardedRecordProvider(ITestContext context) throws IOException {
+		String filePath = "path/to/excel/file.xlsx";
+		String sheetName = "Sheet1";
+		return getExcelRecordShard(filePath, sheetName, "TestCaseId", DataShard.current(context));
+	}
+
+	/********************************************************************************************
+	 * Parallel DataProvider method to provide rows from a data file of any
+	 * supported format to TestNG tests. Rows are read lazily.
+	 * 
+	 * @return an iterator over the rows to be provided to the tests
+	 * @throws IOException if the file cannot be opened
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	@DataProvider(name = "dataFileProvider", parallel = true)
+	public Iterator<Object[]> dataFileProvider() throws IOException {
+		String filePath = "path/to/data/file.csv";
+		return getDataLazily(filePath, null);
 	}
 
 	public static void main(String[] args) {
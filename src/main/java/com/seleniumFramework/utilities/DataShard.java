@@ -0,0 +1,141 @@
+package com.seleniumFramework.utilities;
+
+import org.testng.ITestContext;
+
+/**
+ * One of N disjoint partitions of a data-driven test's rows.
+ *
+ * Rows are assigned by a stable hash of a key column, so every worker agrees
+ * on the partition without coordinating, a row stays in the same shard across
+ * runs, and adding or removing rows does not move the others. Each JVM fork
+ * (or each parallel {@code <test>} of a suite) runs only the rows of its own
+ * shard, so a data-driven suite splits evenly across workers.
+ *
+ * The shard is taken from the {@code dataShardCount} parameter and either the
+ * zero-based {@code dataShardIndex} or the one-based {@code dataShardNumber}
+ * parameter of the current {@code <test>} or suite, falling back to the system
+ * properties of the same name. Surefire numbers its forks from 1, so a fork
+ * passes {@code -DdataShardNumber=${surefire.forkNumber}}. Without a count,
+ * the single shard owns every row; a count without an index or number is
+ * rejected.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class DataShard {
+
+	public static final String INDEX_PARAMETER = "dataShardIndex";
+	public static final String NUMBER_PARAMETER = "dataShardNumber";
+	public static final String COUNT_PARAMETER = "dataShardCount";
+
+	private static final DataShard ALL = new DataShard(0, 1);
+
+	private final int index;
+	private final int count;
+
+	private DataShard(int index, int count) {
+		this.index = index;
+		this.count = count;
+	}
+
+	/********************************************************************************************
+	 * Returns a shard.
+	 *
+	 * @param index the zero-based index of the shard
+	 * @param count the number of shards
+	 * @return the shard
+	 * @throws IllegalArgumentException if the index is not within the count
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static DataShard of(int index, int count) {
+		if (count < 1 || index < 0 || index >= count) {
+			throw new IllegalArgumentException("Invalid data shard " + index + " of " + count);
+		}
+		return count == 1 ? ALL : new DataShard(index, count);
+	}
+
+	/** The single shard that owns every row. */
+	public static DataShard all() {
+		return ALL;
+	}
+
+	/********************************************************************************************
+	 * Returns the shard configured for the current test, from the test or suite
+	 * parameters or else the system properties.
+	 *
+	 * @param context the TestNG context of the test, or null to use the system
+	 *                properties only
+	 * @return the configured shard, or {@link #all()} if none is configured
+	 * @throws IllegalArgumentException if a count is set without an index or
+	 *                                  number
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static DataShard current(ITestContext context) {
+		String index = setting(context, INDEX_PARAMETER);
+		String number = setting(context, NUMBER_PARAMETER);
+		String count = setting(context, COUNT_PARAMETER);
+		if (count == null) {
+			return ALL;
+		}
+		if (index == null && number == null) {
+			// defaulting to shard 0 would run the same rows on every worker
+			throw new IllegalArgumentException(COUNT_PARAMETER + " is set but neither " + INDEX_PARAMETER + " nor "
+					+ NUMBER_PARAMETER + " is");
+		}
+		int zeroBasedIndex = index != null ? Integer.parseInt(index.trim()) : Integer.parseInt(number.trim()) - 1;
+		return of(zeroBasedIndex, Integer.parseInt(count.trim()));
+	}
+
+	/********************************************************************************************
+	 * Tells whether a row belongs to this shard.
+	 *
+	 * @param key the value of the row's key column; null counts as empty
+	 * @return true if this shard owns the row
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public boolean owns(String key) {
+		if (count == 1) {
+			return true;
+		}
+		// String.hashCode is specified by the JLS, so every JVM computes the same value
+		int hash = key == null ? 0 : key.hashCode();
+		// murmur3 finalizer: spreads sequential keys such as TC_001, TC_002 evenly
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return Math.floorMod(hash, count) == index;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		return "shard " + index + " of " + count;
+	}
+
+	private static String setting(ITestContext context, String name) {
+		String value = null;
+		if (context != null && context.getCurrentXmlTest() != null) {
+			value = context.getCurrentXmlTest().getParameter(name);
+		}
+		if (value == null || value.trim().isEmpty()) {
+			value = System.getProperty(name);
+		}
+		return value == null || value.trim().isEmpty() ? null : value;
+	}
+}
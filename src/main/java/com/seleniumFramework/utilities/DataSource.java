@@ -0,0 +1,71 @@
+package com.seleniumFramework.utilities;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A file format that data-driven tests can read rows from.
+ *
+ * {@link DataSources} picks the source for a file by its extension, so
+ * {@link DataProviderUtils#getData(String, String)} works the same for Excel,
+ * CSV and JSON-lines files. Further formats can be added by registering an
+ * implementation with {@link DataSources#register(DataSource)} or listing it in
+ * {@code META-INF/services/com.seleniumFramework.utilities.DataSource}.
+ *
+ * Every row of the file is returned as data, header rows included, with cells
+ * as strings, like {@link DataProviderUtils#getExcelData(String, String)}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public interface DataSource {
+
+	/** The file extensions this source reads, lower case and without the dot. */
+	Set<String> getExtensions();
+
+	/********************************************************************************************
+	 * Opens a file for lazy, row-by-row reading. If the returned iterator is
+	 * {@link Closeable}, it releases its resources after the last row and can
+	 * be closed early.
+	 *
+	 * @param filePath  the path of the file
+	 * @param sheetName the sheet to read, for formats that have sheets; ignored
+	 *                  otherwise
+	 * @return an iterator over the rows of the file
+	 * @throws IOException if the file cannot be opened
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	Iterator<Object[]> open(String filePath, String sheetName) throws IOException;
+
+	/********************************************************************************************
+	 * Reads all rows of a file.
+	 *
+	 * @param filePath  the path of the file
+	 * @param sheetName the sheet to read, for formats that have sheets; ignored
+	 *                  otherwise
+	 * @return the rows of the file
+	 * @throws IOException if the file cannot be read
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	default Object[][] readAll(String filePath, String sheetName) throws IOException {
+		List<Object[]> rows = new ArrayList<>();
+		Iterator<Object[]> iterator = open(filePath, sheetName);
+		try {
+			iterator.forEachRemaining(rows::add);
+		} finally {
+			if (iterator instanceof Closeable) {
+				((Closeable) iterator).close();
+			}
+		}
+		return rows.toArray(new Object[0][]);
+	}
+}
@@ -0,0 +1,79 @@
+package com.seleniumFramework.utilities;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Registry of {@link DataSource} implementations, keyed by file extension.
+ *
+ * Excel (.xlsx, .xlsm), CSV (.csv) and JSON lines (.jsonl, .ndjson) are
+ * built in. Sources found through {@link ServiceLoader} and sources registered
+ * at runtime take precedence for the extensions they declare.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class DataSources {
+
+	private static final Logger logger = LogManager.getLogger(DataSources.class);
+	private static final Map<String, DataSource> byExtension = new ConcurrentHashMap<>();
+
+	static {
+		register(new ExcelDataSource());
+		register(new CsvDataSource());
+		register(new JsonLinesDataSource());
+		for (DataSource source : ServiceLoader.load(DataSource.class)) {
+			register(source);
+		}
+	}
+
+	private DataSources() {
+	}
+
+	/********************************************************************************************
+	 * Registers a source for the extensions it declares, replacing any source
+	 * previously registered for them.
+	 *
+	 * @param source the source to register
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void register(DataSource source) {
+		for (String extension : source.getExtensions()) {
+			DataSource previous = byExtension.put(extension.toLowerCase(), source);
+			if (previous != null && previous.getClass() != source.getClass()) {
+				logger.info("Data source for .{} files changed from {} to {}", extension,
+						previous.getClass().getSimpleName(), source.getClass().getSimpleName());
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Returns the source that reads a file, chosen by the file's extension.
+	 *
+	 * @param filePath the path of the file
+	 * @return the source for the file
+	 * @throws IllegalArgumentException if no source reads files with this
+	 *                                  extension
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static DataSource forFile(String filePath) {
+		String fileName = filePath.replace('\\', '/');
+		fileName = fileName.substring(fileName.lastIndexOf('/') + 1);
+		int dot = fileName.lastIndexOf('.');
+		DataSource source = dot < 0 ? null : byExtension.get(fileName.substring(dot + 1).toLowerCase());
+		if (source == null) {
+			throw new IllegalArgumentException(
+					"No data source for " + filePath + "; supported extensions are " + byExtension.keySet());
+		}
+		return source;
+	}
+}
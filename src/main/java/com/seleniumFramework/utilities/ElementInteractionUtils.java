@@ -4,9 +4,7 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -14,44 +12,84 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
 import com.seleniumFramework.common.BaseClass;
 import com.seleniumFramework.common.Config;
 
 /**
  * Utility class to interact with web elements in Selenium WebDriver.
+ * 
+ * All helpers act on the calling thread's driver (see
+ * {@link InteractionContext}), so parallel tests can share this class.
  */
 
 public class ElementInteractionUtils {
 
 	private static final Logger logger = LogManager.getLogger(ElementInteractionUtils.class);
-	private static WebDriverWait wait;
 	static Duration timeout = Duration.ofSeconds(Config.MEDIUM_PAUSE);
 	static Duration polling = Duration.ofMillis(Config.POLLING_TIME);
-	public static WebDriver driver;
-	static private Actions action;
+	private static volatile HighlightMode highlightMode = HighlightMode.ASYNC;
+	private static final AtomicLong highlightCalls = new AtomicLong();
+	private static final AtomicLong highlightRoundtripsSaved = new AtomicLong();
+	private static final String HIGHLIGHT_STYLE = "border: 2px solid red; border-style: dashed;";
+	// the original style is saved once, so overlapping highlights never capture the highlighted one
+	private static final String APPLY_HIGHLIGHT = "if (!el.hasAttribute('data-sf-highlight')) {"
+			+ " var style = el.getAttribute('style');"
+			+ " el.setAttribute('data-sf-highlight', style === null ? '' : style);"
+			+ " el.setAttribute('style', (style ? style + ';' : '') + '" + HIGHLIGHT_STYLE + "'); }";
+	private static final String RESTORE_HIGHLIGHT = "function sfRestore(el) {"
+			+ " if (!el.hasAttribute('data-sf-highlight')) { return; }"
+			+ " var style = el.getAttribute('data-sf-highlight'); el.removeAttribute('data-sf-highlight');"
+			+ " if (style) { el.setAttribute('style', style); } else { el.removeAttribute('style'); } }";
+	private static final String ASYNC_HIGHLIGHT_SCRIPT = RESTORE_HIGHLIGHT + "var el = arguments[0];" + APPLY_HIGHLIGHT
+			+ "clearTimeout(el.__sfHighlightTimer);"
+			+ "el.__sfHighlightTimer = setTimeout(function() { sfRestore(el); }, arguments[1]);";
+	private static final String SCREENSHOT_HIGHLIGHT_SCRIPT = RESTORE_HIGHLIGHT
+			+ "var el = arguments[0], prev = window.__sfHighlighted;"
+			+ "if (prev && prev !== el) { sfRestore(prev); }"
+			+ "window.__sfHighlighted = el;" + APPLY_HIGHLIGHT;
 
 	public ElementInteractionUtils(WebDriver webDriver) {
-
-		driver = BaseClass.getDriver();
-		if (driver == null) {
+		if (webDriver != null) {
+			InteractionContext.bind(webDriver);
+		}
+		if (!InteractionContext.isBound()) {
 			logger.error("WebDriver is null in ElementInteractionUtils constructor.");
 		} else {
-			logger.info("WebDriver initialized in ElementInteractionUtils: " + driver);
+			logger.info("WebDriver initialized in ElementInteractionUtils: {}", driver());
 		}
-		setWait(driver);
-		ElementInteractionUtils.action = new Actions(driver);
 	}
 
-	private static void setWait(WebDriver driver) {
-		wait = new WebDriverWait(driver, Duration.ofSeconds(10)); // Setting in a static method
+	/**
+	 * The driver of the calling thread; see {@link InteractionContext}.
+	 */
+	private static WebDriver driver() {
+		return InteractionContext.current().getDriver();
+	}
+
+	private static Actions actions() {
+		return InteractionContext.current().getActions();
+	}
+
+	/**
+	 * Logs a completed step as a {@link StepEvent} and hands it to
+	 * {@link StepCapture}, which takes its screenshot if the capture policy asks
+	 * for one.
+	 */
+	private static void step(WebElement webElement, String action, Object target, long start) {
+		StepEvent.passed(action, target, start);
+		StepCapture.afterStep(driver(), webElement, action);
 	}
 
 	/********************************************************************************************
@@ -64,14 +102,15 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean click(WebElement webElement) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
-			wait.until(ExpectedConditions.elementToBeClickable(webElement));
+			SmartWait.clickable(driver(), webElement, timeout);
 			highlightElement(webElement);
 			webElement.click();
-			logger.info("Clicked on element: " + webElement);
 			status = true;
+			step(webElement, "click", PageElements.describe(webElement), start);
 		} catch (NoSuchElementException | TimeoutException e) {
-			logger.error("Unable to click on element: " + describeElement(webElement), e);
+			StepEvent.failed("click", PageElements.describe(webElement), start, e);
 		}
 		return status;
 	}
@@ -87,15 +126,16 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean clickUsingJS(WebElement webElement) {
 		boolean status = false;
-		JavascriptExecutor js = (JavascriptExecutor) driver;
+		long start = StepEvent.start();
+		JavascriptExecutor js = (JavascriptExecutor) driver();
 		try {
 			waitForElementToBeVisible(webElement);
 			highlightElement(webElement);
 			js.executeScript("arguments[0].click();", webElement);
 			status = true;
-			logger.info("Successfully clicked on the web element using JavaScript: " + webElement.toString());
+			step(webElement, "clickUsingJS", PageElements.describe(webElement), start);
 		} catch (Exception e) {
-			logger.error("Unable to click on the web element using JavaScript: " + webElement.toString(), e);
+			StepEvent.failed("clickUsingJS", PageElements.describe(webElement), start, e);
 		}
 		return status;
 	}
@@ -111,15 +151,16 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean sendKeys(WebElement webElement, String text) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
 			waitForElementToBeVisible(webElement);
 			highlightElement(webElement);
 			webElement.clear();
 			webElement.sendKeys(text);
 			status = true;
+			step(webElement, "sendKeys", PageElements.describe(webElement), start);
 		} catch (Exception e) {
-			logger.error("Unable to set text in webElement: " + webElement.toString());
-			System.out.println(e);
+			StepEvent.failed("sendKeys", PageElements.describe(webElement), start, e);
 		}
 		return status;
 	}
@@ -133,16 +174,18 @@ public class ElementInteractionUtils {
 	 * @version 1.0 June 27,2023
 	 ********************************************************************************************/
 	public static void sendKeysUsingJS(WebElement webElement, String value) {
+		long start = StepEvent.start();
 		try {
-			if (driver instanceof JavascriptExecutor) {
-				JavascriptExecutor js = (JavascriptExecutor) driver;
+			if (driver() instanceof JavascriptExecutor) {
+				JavascriptExecutor js = (JavascriptExecutor) driver();
 				highlightElement(webElement);
 				js.executeScript("arguments[0].value='" + value + "';", webElement);
+				step(webElement, "sendKeysUsingJS", PageElements.describe(webElement), start);
 			} else {
 				throw new IllegalStateException("This driver does not support JavaScript execution");
 			}
 		} catch (Exception e) {
-			e.printStackTrace();
+			StepEvent.failed("sendKeysUsingJS", PageElements.describe(webElement), start, e);
 		}
 	}
 
@@ -157,33 +200,19 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean clear(WebElement webElement) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
 			waitForElementToBeVisible(webElement);
 			highlightElement(webElement);
 			webElement.clear();
 			status = true;
-			logger.info("Successfully cleared text in webElement: " + webElement.toString());
+			step(webElement, "clear", PageElements.describe(webElement), start);
 		} catch (Exception e) {
-			logger.error("Unable to clear text in webElement: " + webElement.toString(), e);
+			StepEvent.failed("clear", PageElements.describe(webElement), start, e);
 		}
 		return status;
 	}
 
-	/********************************************************************************************
-	 * Gets the description of a web element (tagName and attributes).
-	 * 
-	 * @param element the web element
-	 * @return the description of the element
-	 * 
-	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
-	 ********************************************************************************************/
-	private static String describeElement(WebElement webElement) {
-		String tagName = webElement.getTagName();
-		String attributes = webElement.toString().split("-> ")[1].replace("]", "");
-		return tagName + " [" + attributes + "]";
-	}
-
 	/********************************************************************************************
 	 * Send text in element with javascript.
 	 * 
@@ -195,16 +224,18 @@ public class ElementInteractionUtils {
 	 * @version 1.0 June 27,2023
 	 ********************************************************************************************/
 	public static void searchClickByJS(WebElement webElement) {
+		long start = StepEvent.start();
 		try {
-			if (driver instanceof JavascriptExecutor) {
-				JavascriptExecutor js = (JavascriptExecutor) driver;
+			if (driver() instanceof JavascriptExecutor) {
+				JavascriptExecutor js = (JavascriptExecutor) driver();
 				highlightElement(webElement);
 				js.executeScript("var el = document.querySelector(\"" + webElement + "\").click();");
+				step(webElement, "searchClickByJS", PageElements.describe(webElement), start);
 			} else {
 				throw new IllegalStateException("This driver does not support JavaScript execution");
 			}
 		} catch (Exception e) {
-			e.printStackTrace();
+			StepEvent.failed("searchClickByJS", PageElements.describe(webElement), start, e);
 		}
 	}
 
@@ -220,16 +251,15 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean selectByValue(WebElement webElement, String value) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
 			waitForElementToBeVisible(webElement);
 			Select listBox = new Select(webElement);
 			listBox.selectByValue(value);
 			status = true;
-			logger.info(
-					"Successfully selected the value '" + value + "' from the dropdown list: " + webElement.toString());
+			step(webElement, "selectByValue", value, start);
 		} catch (Exception e) {
-			logger.error("Unable to select the value '" + value + "' from the dropdown list: " + webElement.toString(),
-					e);
+			StepEvent.failed("selectByValue", value, start, e);
 		}
 		return status;
 	}
@@ -246,16 +276,15 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean selectByVisibleText(WebElement webElement, String value) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
 			waitForElementToBeVisible(webElement);
 			Select listBox = new Select(webElement);
 			listBox.selectByVisibleText(value);
 			status = true;
-			logger.info(
-					"Successfully selected the value '" + value + "' from the dropdown list: " + webElement.toString());
+			step(webElement, "selectByVisibleText", value, start);
 		} catch (Exception e) {
-			logger.error("Unable to select the value '" + value + "' from the dropdown list: " + webElement.toString(),
-					e);
+			StepEvent.failed("selectByVisibleText", value, start, e);
 		}
 		return status;
 	}
@@ -272,16 +301,15 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean selectByIndex(WebElement webElement, int index) {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
 			waitForElementToBeVisible(webElement);
 			Select listBox = new Select(webElement);
 			listBox.selectByIndex(index);
 			status = true;
-			logger.info("Successfully selected the value at index '" + index + "' from the dropdown list: "
-					+ webElement.toString());
+			step(webElement, "selectByIndex", Unbox.box(index), start);
 		} catch (Exception e) {
-			logger.error("Unable to select the value at index '" + index + "' from the dropdown list: "
-					+ webElement.toString(), e);
+			StepEvent.failed("selectByIndex", Unbox.box(index), start, e);
 		}
 		return status;
 	}
@@ -300,30 +328,25 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean waitForVisibility(WebElement webElement, Duration timeout, Duration polling) {
 		boolean status = false;
-		FluentWait<WebDriver> fluentWait;
 		try {
-			// Initialize FluentWait with WebDriver instance and timeout duration
-			fluentWait = new FluentWait<>(driver).withTimeout(timeout).pollingEvery(polling)
-					.ignoring(NoSuchElementException.class);
-			fluentWait.until(ExpectedConditions.elementToBeClickable(webElement));
+			SmartWait.until(driver(), d -> webElement.isDisplayed() && webElement.isEnabled(), timeout, polling,
+					SmartWait.keyFor("clickable", webElement));
 			status = true;
-			logger.info("Element is clickable: " + webElement.toString());
+			logger.debug("Element is clickable: {}", webElement);
 		} catch (Exception e) {
-			logger.error("Element is not clickable: " + webElement.toString(), e);
+			logger.error("Element is not clickable: {}", webElement, e);
 		}
 		return status;
 	}
 
 	public static boolean waitForElementToBeVisible(WebElement webElement) {
 		boolean status = false;
-		WebDriverWait wait;
 		try {
-			wait = new WebDriverWait(driver, timeout);
-			wait.until(ExpectedConditions.visibilityOf(webElement));
+			SmartWait.visible(driver(), webElement, timeout);
 			status = true;
-			logger.info("Element is visible: " + webElement.toString());
+			logger.debug("Element is visible: {}", webElement);
 		} catch (Exception e) {
-			logger.error("Element is not visible: " + webElement.toString(), e);
+			logger.error("Element is not visible: {}", webElement, e);
 		}
 		return status;
 	}
@@ -341,15 +364,13 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean waitForInvisibilityOfElement(WebElement webElement, Duration timeout, Duration polling) {
 		boolean status = false;
-		FluentWait<WebDriver> fluentWait;
 		try {
-			fluentWait = new FluentWait<>(driver).withTimeout(timeout).pollingEvery(polling)
-					.ignoring(NoSuchElementException.class);
-			fluentWait.until(ExpectedConditions.invisibilityOf(webElement));
+			SmartWait.until(driver(), ExpectedConditions.invisibilityOf(webElement), timeout, polling,
+					SmartWait.keyFor("invisible", webElement));
 			status = true;
-			logger.info("Element is now invisible: " + webElement.toString());
+			logger.debug("Element is now invisible: {}", webElement);
 		} catch (Exception e) {
-			logger.error("Unable to wait for invisibility of element: " + webElement.toString(), e);
+			logger.error("Unable to wait for invisibility of element: {}", webElement, e);
 		}
 		return status;
 	}
@@ -369,9 +390,9 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			status = webElement.isDisplayed();
-			logger.info("Element is visible: " + webElement.toString());
+			logger.debug("Element is visible: {}", webElement);
 		} catch (Exception e) {
-			logger.error("WebElement is not present: " + webElement.toString());
+			logger.error("WebElement is not present: {}", webElement);
 		}
 		return status;
 
@@ -391,9 +412,9 @@ public class ElementInteractionUtils {
 		waitForElementToBeVisible(webElement);
 		try {
 			status = webElement.isEnabled();
-			logger.info("Element is enabled: " + webElement.toString());
+			logger.debug("Element is enabled: {}", webElement);
 		} catch (Exception e) {
-			logger.error("WebElement is disabled: " + webElement.toString());
+			logger.error("WebElement is disabled: {}", webElement);
 		}
 
 		return status;
@@ -416,9 +437,9 @@ public class ElementInteractionUtils {
 		try {
 			highlightElement(webElement);
 			status = webElement.getText().contains(text);
-			logger.info("Verifying text: " + text + " within web element: " + webElement);
+			logger.debug("Verifying text: {} within web element: {}", text, webElement);
 		} catch (Exception e) {
-			logger.error("unable to verify text for webelement: " + webElement.toString());
+			logger.error("unable to verify text for webelement: {}", webElement);
 		}
 		return status;
 	}
@@ -437,10 +458,10 @@ public class ElementInteractionUtils {
 		String attributeValue = " ";
 		waitForElementToBeVisible(webElement);
 		try {
-			logger.info("Getting attribute '" + attribute + "' for webElement: " + webElement.toString());
+			logger.debug("Getting attribute '{}' for webElement: {}", attribute, webElement);
 			attributeValue = webElement.getAttribute(attribute);
 		} catch (Exception e) {
-			logger.error("Unable to get attribute for webElement " + webElement.toString(), e);
+			logger.error("Unable to get attribute for webElement {}", webElement, e);
 		}
 		return attributeValue;
 	}
@@ -461,11 +482,11 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		waitForElementToBeVisible(webElement);
 		try {
-			logger.info("Verifying attribute '" + attribute + "' value to be '" + attributeValue + "' for webElement: "
-					+ webElement.toString());
+			logger.debug("Verifying attribute '{}' value to be '{}' for webElement: {}", attribute, attributeValue,
+					webElement);
 			status = webElement.getAttribute(attribute).equalsIgnoreCase(attributeValue);
 		} catch (Exception e) {
-			logger.error("Unable to get attribute for webElement " + webElement.toString(), e);
+			logger.error("Unable to get attribute for webElement {}", webElement, e);
 		}
 		return status;
 	}
@@ -486,11 +507,11 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		waitForElementToBeVisible(webElement);
 		try {
-			logger.info("Verifying if attribute '" + attribute + "' contains value '" + attributeValue
-					+ "' for webElement: " + webElement.toString());
+			logger.debug("Verifying if attribute '{}' contains value '{}' for webElement: {}", attribute,
+					attributeValue, webElement);
 			status = webElement.getAttribute(attribute).toUpperCase().contains(attributeValue.toUpperCase());
 		} catch (Exception e) {
-			logger.error("Unable to verify if attribute contains for webElement " + webElement.toString(), e);
+			logger.error("Unable to verify if attribute contains for webElement {}", webElement, e);
 		}
 		return status;
 	}
@@ -511,14 +532,14 @@ public class ElementInteractionUtils {
 	public static boolean waitForAttributeContains(WebElement webElement, String attribute, String attributeValue) {
 		boolean status = false;
 		try {
-			logger.info("Waiting for attribute '" + attribute + "' of webElement to contain value '" + attributeValue
-					+ "': " + webElement.toString());
-			WebDriverWait wait = new WebDriverWait(driver, timeout);
-			wait.until(ExpectedConditions.attributeContains(webElement, attribute, attributeValue));
+			logger.debug("Waiting for attribute '{}' of webElement to contain value '{}': {}", attribute,
+					attributeValue, webElement);
+			SmartWait.until(driver(), ExpectedConditions.attributeContains(webElement, attribute, attributeValue),
+					timeout, SmartWait.keyFor("attribute:" + attribute, webElement));
 			status = webElement.getAttribute(attribute).toUpperCase().contains(attributeValue.toUpperCase());
 			status = true;
 		} catch (Exception e) {
-			logger.error("Unable to verify if attribute contains for webElement " + webElement.toString(), e);
+			logger.error("Unable to verify if attribute contains for webElement {}", webElement, e);
 		}
 		return status;
 	}
@@ -534,15 +555,14 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean scrollToElement(WebElement webElement) {
 		boolean status = false;
-		wait.until(ExpectedConditions.visibilityOf(webElement));
 		try {
 			if (webElement == null) {
 				logger.error("Cannot scroll to null WebElement.");
 				throw new IllegalArgumentException("WebElement is null.");
-			}			
+			}
+			SmartWait.visible(driver(), webElement, timeout);
 			highlightElement(webElement);
-			pause(500);
-			JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+			JavascriptExecutor jsExecutor = (JavascriptExecutor) driver();
 			jsExecutor.executeScript("arguments[0].scrollIntoView(true);", webElement);
 			logger.info("Scrolled to element: {}", webElement);
 			status = true;
@@ -568,6 +588,7 @@ public class ElementInteractionUtils {
 	public static void pause(Integer waitTime) {
 		try {
 			Thread.sleep(waitTime);
+			SmartWait.recordSleep(waitTime);
 		} catch (Exception e) {
 			logger.error("Thread was interrupted while pausing for {" + waitTime + "} milliseconds", waitTime, e);
 			Thread.currentThread().interrupt();
@@ -606,10 +627,10 @@ public class ElementInteractionUtils {
 		try {
 			final String randomEmail = UUID.randomUUID().toString().replace("-", " ") + "@" + "gmail.com";
 			Config.emailaddr = "qa" + "." + randomEmail;
-			logger.info("Email generated is: " + Config.emailaddr);
+			logger.info("Email generated is: {}", Config.emailaddr);
 			email = Config.emailaddr;
 		} catch (Exception e) {
-			logger.error("Unable to generate random email: " + e);
+			logger.error("Unable to generate random email: {}", e);
 		}
 		return email;
 	}
@@ -628,19 +649,19 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		WebElement getElementByText;
 		try {
-			getElementByText = driver.findElement(By.xpath("(//*[contains(text(),\"" + text + "\")])[]1]"));
+			getElementByText = driver().findElement(By.xpath("(//*[contains(text(),\"" + text + "\")])[]1]"));
 			ElementInteractionUtils.scrollToElement(getElementByText);
 			if (ElementInteractionUtils.isPresent(getElementByText, 60)
 					|| ElementInteractionUtils.waitForElementToBeVisible(getElementByText)) {
 				status = true;
-				logger.info("Element is present and text is " + getElementByText.getText());
+				logger.debug("Element is present and text is {}", getElementByText.getText());
 				highlightElement(getElementByText);
 			} else {
 				status = false;
 				logger.warn("Element is not present or not visible.");
 			}
 		} catch (Exception e) {
-			logger.error("Element not found: " + e.getMessage());
+			logger.error("Element not found: {}", e.getMessage());
 			status = false;
 		}
 		return status;
@@ -668,7 +689,7 @@ public class ElementInteractionUtils {
 				status = true;
 			}
 		} catch (Exception e) {
-			logger.error("Unable to verify if the value is selected from listBox: " + webElement.toString(), e);
+			logger.error("Unable to verify if the value is selected from listBox: {}", webElement, e);
 		}
 		return status;
 	}
@@ -694,56 +715,89 @@ public class ElementInteractionUtils {
 				status = true;
 			}
 		} catch (Exception e) {
-			logger.error("Unable to verify if the value is not selected from listBox: " + webElement.toString(), e);
+			logger.error("Unable to verify if the value is not selected from listBox: {}", webElement, e);
 		}
 		return status;
 	}
 
 	/********************************************************************************************
-	 * Highlights the specified WebElement by adding a border and changing its color
-	 * temporarily.
+	 * Highlights the specified WebElement by adding a dashed red border according
+	 * to the current highlight mode. No mode blocks the test: async removes the
+	 * highlight from a browser-side timer and screenshot-only keeps it until the
+	 * next element is highlighted.
 	 * 
 	 * @param element The WebElement to highlight.
 	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
 	public static void highlightElement(WebElement webElement) {
+		HighlightMode mode = highlightMode;
+		highlightCalls.incrementAndGet();
+		if (mode == HighlightMode.OFF) {
+			highlightRoundtripsSaved.addAndGet(3);
+			return;
+		}
+		highlightRoundtripsSaved.addAndGet(2);
 		try {
-			JavascriptExecutor js = (JavascriptExecutor) driver;
-			String originalStyle = webElement.getAttribute("style");
-			js.executeScript("arguments[0].setAttribute('style', arguments[1]);", webElement,
-					"border: 2px solid red; border-style: dashed;");
-			// logger.info("Element highlighted: {}", element.toString());
-			Thread.sleep(500); // Highlight duration in milliseconds
-			js.executeScript("arguments[0].setAttribute('style', arguments[1]);", webElement, originalStyle);
-			// logger.info("Element highlight removed: {}", element.toString());
-		} catch (InterruptedException e) {
-			logger.error("Interrupted Exception during element highlighting: ", e);
-			Thread.currentThread().interrupt();
+			JavascriptExecutor js = (JavascriptExecutor) driver();
+			js.executeScript(mode == HighlightMode.ASYNC ? ASYNC_HIGHLIGHT_SCRIPT : SCREENSHOT_HIGHLIGHT_SCRIPT,
+					webElement, Config.HIGHLIGHT_DURATION_MS);
 		} catch (Exception e) {
 			logger.error("Exception occurred while highlighting element: ", e);
 		}
 	}
 
+	/********************************************************************************************
+	 * Sets how highlightElement marks elements for the rest of the run.
+	 * 
+	 * @param mode the highlight mode
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void setHighlightMode(HighlightMode mode) {
+		highlightMode = mode;
+		logger.info("Highlight mode set to: {}", mode);
+	}
+
+	public static HighlightMode getHighlightMode() {
+		return highlightMode;
+	}
+
+	/********************************************************************************************
+	 * Summarises what highlighting cost compared to the former blocking
+	 * implementation (three roundtrips and a fixed sleep per highlight).
+	 * 
+	 * @return highlight calls with the sleep time and roundtrips saved
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String highlightStats() {
+		long calls = highlightCalls.get();
+		return String.format("Highlight mode %s: %d highlight(s), %d ms of sleep and %d roundtrip(s) saved",
+				highlightMode, calls, calls * Config.HIGHLIGHT_DURATION_MS, highlightRoundtripsSaved.get());
+	}
+
 	public static void highlightElement(By locator) {
-		WebElement webElement = driver.findElement(locator);
+		WebElement webElement = driver().findElement(locator);
 		highlightElement(webElement);
 	}
 
 	public static void highlightElement(int x) {
-		WebElement webElement = driver.findElement(
+		WebElement webElement = driver().findElement(
 				By.xpath(String.format("//*[contains(@style, 'left: %dpx') and contains(@style, 'top: %dpx')]", x)));
 		highlightElement(webElement);
 	}
 
 	public static void highlightElement(String visibleText) {
-		WebElement webElement = driver.findElement(By.xpath(String.format("//*[text()='%s']", visibleText)));
+		WebElement webElement = driver().findElement(By.xpath(String.format("//*[text()='%s']", visibleText)));
 		highlightElement(webElement);
 	}
 
 //	public static void highlightElement(String partialText) {
-//		WebElement webElement = driver.findElement(By.xpath(String.format("//*[contains(text(), '%s')]", partialText)));
+//		WebElement webElement = driver().findElement(By.xpath(String.format("//*[contains(text(), '%s')]", partialText)));
 //		highlightElement(webElement);
 //	}
 
@@ -762,19 +816,21 @@ public class ElementInteractionUtils {
 			String[] verifyingPageText;
 			verifyingPageText = testData.get("VerifyPageText").split("\\|");
 			int count = verifyingPageText.length;
-			logger.info("Size: " + count);
+			logger.debug("Verifying {} page text(s)", Unbox.box(count));
 			for (int i = 0; i < count; i++) {
 				boolean webelement = false;
+				long start = StepEvent.start();
+				Exception error = null;
 				try {
 					webelement = ElementInteractionUtils.getElementByText(verifyingPageText[i]);
 				} catch (Exception e) {
-					logger.error("Error occurred while verifying page text: ", e);
+					error = e;
 				}
 				if (webelement) {
-					logger.info(verifyingPageText[i] + "is present");
+					StepEvent.passed("verifyPageText", verifyingPageText[i], start);
 					status = true;
 				} else {
-					logger.error(verifyingPageText[i] + "is not present");
+					StepEvent.failed("verifyPageText", verifyingPageText[i], start, error);
 					status = false;
 				}
 			}
@@ -798,14 +854,13 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			if (webElement.isDisplayed()) {
-				logger.info("hovering over element: " + webElement);
-				Actions action = new Actions(driver);
+				logger.info("hovering over element: {}", webElement);
 				highlightElement(webElement);
-				action.moveToElement(webElement).build().perform();
+				actions().moveToElement(webElement).build().perform();
 				status = true;
 			}
 		} catch (Exception e) {
-			logger.error("Problem in hovering over element: " + e.getMessage());
+			logger.error("Problem in hovering over element: {}", e.getMessage());
 		}
 		return status;
 	}
@@ -823,14 +878,13 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			if (webElement.isDisplayed()) {
-				logger.info("Double clicking on element: " + webElement);
-				Actions action = new Actions(driver);
+				logger.info("Double clicking on element: {}", webElement);
 				highlightElement(webElement);
-				action.doubleClick(webElement).perform();
+				actions().doubleClick(webElement).perform();
 				status = true;
 			}
 		} catch (Exception e) {
-			logger.error("Problem in double clicking on element:" + e.getMessage());
+			logger.error("Problem in double clicking on element:{}", e.getMessage());
 		}
 		return status;
 	}
@@ -848,13 +902,13 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			if (webElement.isDisplayed()) {
-				logger.info("Right clicking on element: " + webElement);
+				logger.info("Right clicking on element: {}", webElement);
 				highlightElement(webElement);
-				action.contextClick(webElement).perform();
+				actions().contextClick(webElement).perform();
 				status = true;
 			}
 		} catch (Exception e) {
-			logger.error("Problem in right clicking on element:" + e.getMessage());
+			logger.error("Problem in right clicking on element:{}", e.getMessage());
 		}
 		return status;
 	}
@@ -874,12 +928,12 @@ public class ElementInteractionUtils {
 			if (!webElement.isSelected()) {
 				webElement.click();
 				status = true;
-				logger.info("webelement selected and clicked: " + webElement);
+				logger.info("webelement selected and clicked: {}", webElement);
 			} else {
-				logger.info("webelement is already selected: " + webElement);
+				logger.info("webelement is already selected: {}", webElement);
 			}
 		} catch (Exception e) {
-			logger.error("Problem in selecting and clicking on element:" + e.getMessage());
+			logger.error("Problem in selecting and clicking on element:{}", e.getMessage());
 		}
 		return status;
 	}
@@ -899,12 +953,12 @@ public class ElementInteractionUtils {
 			if (webElement.isDisplayed()) {
 				webElement.click();
 				status = true;
-				logger.info("webelement displyed and clicked: " + webElement);
+				logger.info("webelement displyed and clicked: {}", webElement);
 			} else {
-				logger.info("webelement is not displayed: " + webElement);
+				logger.info("webelement is not displayed: {}", webElement);
 			}
 		} catch (Exception e) {
-			logger.error("Problem in displaying and clicking on element: " + e.getMessage());
+			logger.error("Problem in displaying and clicking on element: {}", e.getMessage());
 		}
 		return status;
 	}
@@ -925,12 +979,12 @@ public class ElementInteractionUtils {
 			if (webElement.isEnabled()) {
 				webElement.click();
 				status = true;
-				logger.info("webelement enabled and clicked: " + webElement);
+				logger.info("webelement enabled and clicked: {}", webElement);
 			} else {
-				logger.info("webelement is not enabled: " + webElement);
+				logger.info("webelement is not enabled: {}", webElement);
 			}
 		} catch (Exception e) {
-			logger.error("Problem in enabling and clicking on element: " + e.getMessage());
+			logger.error("Problem in enabling and clicking on element: {}", e.getMessage());
 		}
 		return status;
 	}
@@ -950,7 +1004,7 @@ public class ElementInteractionUtils {
 		String sRow = "1";
 		String sCol = "2";
 		// Here we are locating the xpath by passing variables in the xpath
-		String sCellValue = driver
+		String sCellValue = driver()
 				.findElement(By.xpath(".//*[@id='content']/table/tbody/tr[" + sRow + "]/td[" + sCol + "]")).getText();
 		System.out.println(sCellValue);
 		String sRowValue = "Clock Tower Hotel";
@@ -958,12 +1012,12 @@ public class ElementInteractionUtils {
 		// First loop will find the 'ClOCK TWER HOTEL' in the first column
 		for (int i = 1; i <= 5; i++) {
 			String sValue = null;
-			sValue = driver.findElement(By.xpath(".//*[@id='content']/table/tbody/tr[" + i + "]/th")).getText();
+			sValue = driver().findElement(By.xpath(".//*[@id='content']/table/tbody/tr[" + i + "]/th")).getText();
 			if (sValue.equalsIgnoreCase(sRowValue)) {
 				// If the sValue match with the description, it will initiate one more inner
 				// loop for all the columns of 'i' row
 				for (int j = 1; j <= 5; j++) {
-					String sColumnValue = driver
+					String sColumnValue = driver()
 							.findElement(By.xpath(".//*[@id='content']/table/tbody/tr[" + i + "]/td[" + j + "]"))
 							.getText();
 					System.out.println(sColumnValue);
@@ -989,25 +1043,24 @@ public class ElementInteractionUtils {
 	public static boolean dragAndDrop(WebElement source, WebElement target) {
 		boolean status = false;
 		try {
-			action.dragAndDrop(source, target).perform();
+			actions().dragAndDrop(source, target).perform();
 			status = true;
-			logger.info("webelement moved from source" + source + " to target " + target);
+			logger.info("webelement moved from source{} to target {}", source, target);
 		} catch (Exception e) {
-			logger.error("Problem in dragAndDroping element " + e.getMessage());
+			logger.error("Problem in dragAndDroping element {}", e.getMessage());
 		}
 		return status;
 	}
 
 	public static void keyDown(WebElement webElement, String inputString, String string) {
 		try {
-			action.keyDown(webElement, "keys" + "." + "string");
+			actions().keyDown(webElement, "keys" + "." + "string");
 			System.out.println();
-			action.sendKeys(webElement, inputString);
-			action.keyUp(string).perform();
-			logger.info("Performed keyDown action with key: " + string + ", and input string: " + inputString);
+			actions().sendKeys(webElement, inputString);
+			actions().keyUp(string).perform();
+			logger.info("Performed keyDown action with key: {}, and input string: {}", string, inputString);
 		} catch (Exception e) {
-			logger.error("Unable to perform keyDown action with key: " + string + ", and input string: " + inputString,
-					e);
+			logger.error("Unable to perform keyDown action with key: {}, and input string: {}", string, inputString, e);
 		}
 	}
 
@@ -1023,10 +1076,10 @@ public class ElementInteractionUtils {
 	public static boolean pressKey(Keys key) {
 		boolean status = false;
 		try {
-			action.sendKeys(key).perform();
-			logger.info("Pressed key: " + key.name());
+			actions().sendKeys(key).perform();
+			logger.info("Pressed key: {}", key.name());
 		} catch (Exception e) {
-			logger.error("Failed to press key: " + key.name(), e);
+			logger.error("Failed to press key: {}", key.name(), e);
 		}
 		return status;
 	}
@@ -1044,15 +1097,15 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			for (Keys key : keys) {
-				action.keyDown(key);
+				actions().keyDown(key);
 			}
 			for (Keys key : keys) {
-				action.keyUp(key);
+				actions().keyUp(key);
 			}
-			action.perform();
-			logger.info("Pressed keys: " + keys);
+			actions().perform();
+			logger.info("Pressed keys: {}", Arrays.toString(keys));
 		} catch (Exception e) {
-			logger.error("Failed to press keys: " + keys, e);
+			logger.error("Failed to press keys: {}", Arrays.toString(keys), e);
 		}
 		return status;
 	}
@@ -1070,10 +1123,10 @@ public class ElementInteractionUtils {
 	public static boolean pressKeyOnElement(WebElement webElement, Keys key) {
 		boolean status = false;
 		try {
-			action.sendKeys(webElement, key).perform();
-			logger.info("Pressed key: " + key.name() + " on element: " + webElement.toString());
+			actions().sendKeys(webElement, key).perform();
+			logger.info("Pressed key: {} on element: {}", key.name(), webElement);
 		} catch (Exception e) {
-			logger.error("Failed to press key: " + key.name() + " on element: " + webElement.toString(), e);
+			logger.error("Failed to press key: {} on element: {}", key.name(), webElement, e);
 		}
 		return status;
 	}
@@ -1091,10 +1144,10 @@ public class ElementInteractionUtils {
 	public static boolean typeText(WebElement webElement, String text) {
 		boolean status = false;
 		try {
-			action.sendKeys(webElement, text).perform();
-			logger.info("Typed text: " + text + " on element: " + webElement.toString());
+			actions().sendKeys(webElement, text).perform();
+			logger.info("Typed text: {} on element: {}", text, webElement);
 		} catch (Exception e) {
-			logger.error("Failed to type text: " + text + " on element: " + webElement.toString(), e);
+			logger.error("Failed to type text: {} on element: {}", text, webElement, e);
 		}
 		return status;
 	}
@@ -1186,10 +1239,10 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public void releaseKey(Keys key) {
 		try {
-			action.keyUp(key).perform();
-			logger.info("Released key: " + key.name());
+			actions().keyUp(key).perform();
+			logger.info("Released key: {}", key.name());
 		} catch (Exception e) {
-			logger.error("Failed to release key: " + key.name(), e);
+			logger.error("Failed to release key: {}", key.name(), e);
 		}
 	}
 
@@ -1205,13 +1258,12 @@ public class ElementInteractionUtils {
 	public static boolean copyAndPaste(WebElement sourceElement, WebElement destinationElement) {
 		boolean status = false;
 		try {
-			action.click(sourceElement).keyDown(Keys.CONTROL).sendKeys("a").sendKeys("c").keyUp(Keys.CONTROL)
+			actions().click(sourceElement).keyDown(Keys.CONTROL).sendKeys("a").sendKeys("c").keyUp(Keys.CONTROL)
 					.click(destinationElement).keyDown(Keys.CONTROL).sendKeys("v").keyUp(Keys.CONTROL).perform();
-			logger.info("Copied text from element: " + sourceElement.toString() + " and pasted into element: "
-					+ destinationElement.toString());
+			logger.info("Copied text from element: {} and pasted into element: {}", sourceElement, destinationElement);
 		} catch (Exception e) {
-			logger.error("Unable to Copy text from element: " + sourceElement.toString() + " and pasted into element: "
-					+ destinationElement.toString());
+			logger.error("Unable to Copy text from element: {} and pasted into element: {}", sourceElement,
+					destinationElement);
 		}
 		return status;
 	}
@@ -1229,11 +1281,11 @@ public class ElementInteractionUtils {
 	public static boolean switchWindow(int value) {
 		boolean status = false;
 		Set<String> windowHandles;
-		windowHandles = driver.getWindowHandles();
+		windowHandles = driver().getWindowHandles();
 		List<String> windowHandlesList = new ArrayList<>(windowHandles);
 		int numWindows = windowHandlesList.size();
 		if (numWindows > 1 && value >= 0 && value < numWindows) {
-			driver.switchTo().window(windowHandlesList.get(value));
+			driver().switchTo().window(windowHandlesList.get(value));
 			status = true;
 		}
 		return status;
@@ -1253,11 +1305,11 @@ public class ElementInteractionUtils {
 
 	public static boolean closeWindow(int Value) {
 		boolean status = false;
-		Set<String> windowHandles = driver.getWindowHandles();
+		Set<String> windowHandles = driver().getWindowHandles();
 		List<String> windowHandlesList = new ArrayList<>(windowHandles);
 		if (windowHandlesList.size() > 1) {
-			driver.close();
-			driver.switchTo().window(windowHandlesList.get(0));
+			driver().close();
+			driver().switchTo().window(windowHandlesList.get(0));
 			status = true;
 		}
 		return status;
@@ -1275,11 +1327,11 @@ public class ElementInteractionUtils {
 	public static boolean switchToFrame(String indexOrNameOrId) {
 		boolean status = false;
 		try {
-			logger.info("Switching to frame: " + indexOrNameOrId);
-			((RemoteWebDriver) driver).switchTo().frame(indexOrNameOrId);
+			logger.info("Switching to frame: {}", indexOrNameOrId);
+			((RemoteWebDriver) driver()).switchTo().frame(indexOrNameOrId);
 			status = true;
 		} catch (Exception e) {
-			logger.error("Unable to switch to frame: " + indexOrNameOrId, e);
+			logger.error("Unable to switch to frame: {}", indexOrNameOrId, e);
 		}
 		return status;
 	}
@@ -1297,7 +1349,7 @@ public class ElementInteractionUtils {
 		boolean status = false;
 		try {
 			logger.info("Switching to default content");
-			((RemoteWebDriver) driver).switchTo().defaultContent();
+			((RemoteWebDriver) driver()).switchTo().defaultContent();
 			status = true;
 		} catch (Exception e) {
 			logger.error("Unable to switch to default content", e);
@@ -1315,11 +1367,14 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean navigateBack() {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
-			driver.navigate().back();
+			driver().navigate().back();
+			LocatorCache.forDriver(driver()).invalidate();
 			status = true;
+			step(null, "navigateBack", null, start);
 		} catch (Exception e) {
-			logger.error("Navigation back failed: ", e);
+			StepEvent.failed("navigateBack", null, start, e);
 		}
 		return status;
 	}
@@ -1329,12 +1384,14 @@ public class ElementInteractionUtils {
 	 */
 	public static boolean navigateForward() {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
-			driver.navigate().forward();
-			logger.info("Navigated forward to the next page.");
+			driver().navigate().forward();
+			LocatorCache.forDriver(driver()).invalidate();
 			status = true;
+			step(null, "navigateForward", null, start);
 		} catch (Exception e) {
-			logger.error("Failed to navigate forward to the next page.", e);
+			StepEvent.failed("navigateForward", null, start, e);
 		}
 		return status;
 	}
@@ -1349,12 +1406,15 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static boolean refresh() {
 		boolean status = false;
+		long start = StepEvent.start();
 		try {
-			driver.navigate().refresh();
-			action.keyDown(Keys.CONTROL).sendKeys(Keys.F5).keyUp(Keys.CONTROL).build().perform();
+			driver().navigate().refresh();
+			LocatorCache.forDriver(driver()).invalidate();
+			actions().keyDown(Keys.CONTROL).sendKeys(Keys.F5).keyUp(Keys.CONTROL).build().perform();
 			status = true;
+			step(null, "refresh", null, start);
 		} catch (Exception e) {
-			logger.error("Failed to refresh the page: " + e.getMessage());
+			StepEvent.failed("refresh", null, start, e);
 		}
 		return status;
 	}
@@ -1375,36 +1435,14 @@ public class ElementInteractionUtils {
 	public static boolean verifyTextInTable(String tableId, int tableColumnIndex, String searchText,
 			WebElement nextButton) {
 		try {
-			WebElement table = driver.findElement(By.id(tableId));
-			List<WebElement> tableEntries = table.findElements(By.tagName("tr"));
-			String rowXpathPrefix = "//table[@id='" + tableId + "']/tbody/tr[";
-			String colXpathSuffix = "]/td[" + tableColumnIndex + "]";
-			@SuppressWarnings("unused")
-			int rowCount = 0;
-			while (true) {
-				int tableSize = tableEntries.size();
-				logger.info("Current number of table entries: {}", tableSize);
-
-				for (int i = 1; i <= tableSize; i++) {
-					String cellValue = driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)).getText();
-					if (cellValue.contains(searchText)) {
-						highlightElement(searchText);
-						pause(100);
-						logger.info("Text '{}' found in cell value: {}", searchText, cellValue);
-						return true;
-					}
-				}
-
-				if (nextButton != null && nextButton.isEnabled()) {
-					nextButton.click();
-					logger.info("Next button clicked, checking the next set of entries");
-					rowCount += tableSize;
-					// Re-fetch the table entries after clicking next
-					tableEntries = driver.findElement(By.id(tableId)).findElements(By.tagName("tr"));
-				} else {
-					logger.info("Reached the end of the table, text '{}' not found", searchText);
-					break;
-				}
+			TableScanner scanner = new TableScanner(driver(), tableId, nextButton);
+			Optional<TableScanner.Row> match = scanner.rows()
+					.filter(row -> cellContains(row, tableColumnIndex, searchText)).findFirst();
+			logger.info(scanner.stats());
+			if (match.isPresent()) {
+				highlightTableCell(match.get(), tableColumnIndex);
+				logger.info("Text '{}' found in cell value: {}", searchText, match.get().text(tableColumnIndex));
+				return true;
 			}
 			logger.info("Search completed. Text '{}' not found in the table", searchText);
 			return false;
@@ -1434,45 +1472,23 @@ public class ElementInteractionUtils {
 	public static boolean verifyTextInTableAndPerformAction(String tableId, int tableColumnIndex, String searchText,
 			WebElement nextButton, String actionButtonPrefix, String actionButtonPostfix) {
 		try {
-			WebElement table = driver.findElement(By.id(tableId));
-			List<WebElement> tableEntries = table.findElements(By.tagName("tr"));
-			String rowXpathPrefix = "//table[@id='" + tableId + "']/tbody/tr[";
-			String colXpathSuffix = "]/td[" + tableColumnIndex + "]";
-			@SuppressWarnings("unused")
-			int rowCount = 0;
-
-			while (true) {
-				int tableSize = tableEntries.size();
-				logger.info("Current number of table entries: {}", tableSize);
-
-				for (int i = 1; i <= tableSize; i++) {
-					String cellValue = driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)).getText();
-					if (cellValue.contains(searchText)) {
-						highlightElement(searchText);
-						logger.info("Text '{}' found in cell value: {}", searchText, cellValue);
-
-						WebElement actionElement = driver
-								.findElement(By.xpath(actionButtonPrefix + i + actionButtonPostfix));
-						if (actionElement.isDisplayed()) {
-							actionElement.click();
-							logger.info("Action performed on text '{}'", searchText);
-							return true;
-						}
-					}
+			TableScanner scanner = new TableScanner(driver(), tableId, nextButton);
+			for (TableScanner.Row row : scanner) {
+				if (!cellContains(row, tableColumnIndex, searchText)) {
+					continue;
 				}
-
-				if (nextButton != null && nextButton.isEnabled()) {
-					nextButton.click();
-					logger.info("Next button clicked, checking the next set of entries");
-					rowCount += tableSize;
-					// Re-fetch the table entries after clicking next
-					tableEntries = driver.findElement(By.id(tableId)).findElements(By.tagName("tr"));
-				} else {
-					logger.info("Reached the end of the table, text '{}' not found", searchText);
-					break;
+				highlightTableCell(row, tableColumnIndex);
+				logger.info("Text '{}' found in cell value: {}", searchText, row.text(tableColumnIndex));
+
+				WebElement actionElement = driver()
+						.findElement(By.xpath(actionButtonPrefix + row.getIndex() + actionButtonPostfix));
+				if (actionElement.isDisplayed()) {
+					actionElement.click();
+					logger.info("Action performed on text '{}'. {}", searchText, scanner.stats());
+					return true;
 				}
 			}
-			logger.info("Search completed. Text '{}' not found in the table", searchText);
+			logger.info("Search completed. Text '{}' not found in the table. {}", searchText, scanner.stats());
 			return false;
 		} catch (Exception e) {
 			logger.error("Exception occurred while verifying text in table: ", e);
@@ -1498,56 +1514,15 @@ public class ElementInteractionUtils {
 	public static boolean verifyTableData(String tableId, int tableColumnIndex, String searchText,
 			WebElement nextButton, Map<Integer, String> additionalLookupValues) {
 		try {
-			WebElement table = driver.findElement(By.id(tableId));
-			List<WebElement> tableEntries = table.findElements(By.tagName("tr"));
-			String rowXpathPrefix = "//table[@id='" + tableId + "']/tbody/tr[";
-			String colXpathSuffix = "]/td[" + tableColumnIndex + "]";
-			@SuppressWarnings("unused")
-			int rowCount = 0;
-
-			while (true) {
-				int tableSize = tableEntries.size();
-				logger.info("Current number of table entries: {}", tableSize);
-
-				for (int i = 1; i <= tableSize; i++) {
-					String cellValue = driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)).getText();
-					if (cellValue.contains(searchText)) {
-						highlightElement(driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)));
-						logger.info("Text '{}' found in cell value: {}", searchText, cellValue);
-						boolean allValuesMatch = true;
-						for (Map.Entry<Integer, String> entry : additionalLookupValues.entrySet()) {
-							int lookupColumnIndex = entry.getKey();
-							String expectedValue = entry.getValue();
-							String actualValue = driver
-									.findElement(By.xpath(rowXpathPrefix + i + "]/td[" + lookupColumnIndex + "]"))
-									.getText();
-							highlightElement(actualValue);
-
-							if (!actualValue.equals(expectedValue)) {
-								allValuesMatch = false;
-								logger.info("Mismatch found in column {}: expected '{}', but got '{}'",
-										lookupColumnIndex, expectedValue, actualValue);
-								break;
-							}
-						}
-
-						if (allValuesMatch) {
-							logger.info("All lookup values match for text '{}'", searchText);
-							return true;
-						}
-					}
-				}
-
-				if (nextButton != null && nextButton.isEnabled()) {
-					nextButton.click();
-					logger.info("Next button clicked, checking the next set of entries");
-					rowCount += tableSize;
-					// Re-fetch the table entries after clicking next
-					tableEntries = driver.findElement(By.id(tableId)).findElements(By.tagName("tr"));
-				} else {
-					logger.info("Reached the end of the table, text '{}' not found", searchText);
-					break;
-				}
+			TableScanner scanner = new TableScanner(driver(), tableId, nextButton);
+			Optional<TableScanner.Row> match = scanner.rows()
+					.filter(row -> cellContains(row, tableColumnIndex, searchText))
+					.filter(row -> rowMatches(row, additionalLookupValues)).findFirst();
+			logger.info(scanner.stats());
+			if (match.isPresent()) {
+				highlightTableCell(match.get(), tableColumnIndex);
+				logger.info("All lookup values match for text '{}'", searchText);
+				return true;
 			}
 			logger.info("Search completed. Text '{}' not found in the table", searchText);
 			return false;
@@ -1580,66 +1555,24 @@ public class ElementInteractionUtils {
 			WebElement nextButton, String actionButtonPrefix, String actionButtonPostfix,
 			Map<Integer, String> additionalLookupValues) {
 		try {
-			WebElement table = driver.findElement(By.id(tableId));
-			List<WebElement> tableEntries = table.findElements(By.tagName("tr"));
-			String rowXpathPrefix = "//table[@id='" + tableId + "']/tbody/tr[";
-			String colXpathSuffix = "]/td[" + tableColumnIndex + "]";
-			int rowCount = 0;
-
-			while (true) {
-				int tableSize = tableEntries.size();
-				logger.info("Current number of table entries: {}", tableSize);
-
-				for (int i = 1; i <= tableSize; i++) {
-					String cellValue = driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)).getText();
-					if (cellValue.contains(searchText)) {
-						highlightElement(driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix)));
-						logger.info("Text '{}' found in cell value: {}", searchText, cellValue);
-
-						boolean allValuesMatch = true;
-						for (Map.Entry<Integer, String> entry : additionalLookupValues.entrySet()) {
-							int lookupColumnIndex = entry.getKey();
-							String expectedValue = entry.getValue();
-							String actualValue = driver
-									.findElement(By.xpath(rowXpathPrefix + i + "]/td[" + lookupColumnIndex + "]"))
-									.getText();
-							highlightElement(driver
-									.findElement(By.xpath(rowXpathPrefix + i + "]/td[" + lookupColumnIndex + "]")));
-
-							if (!actualValue.equals(expectedValue)) {
-								allValuesMatch = false;
-								logger.info("Mismatch found in column {}: expected '{}', but got '{}'",
-										lookupColumnIndex, expectedValue, actualValue);
-								break;
-							}
-						}
-
-						if (allValuesMatch) {
-							logger.info("All lookup values match for text '{}'", searchText);
-
-							WebElement actionElement = driver
-									.findElement(By.xpath(actionButtonPrefix + i + actionButtonPostfix));
-							if (actionElement.isDisplayed()) {
-								highlightElement(actionElement);
-								actionElement.click();
-								logger.info("Action performed on text '{}'", searchText);
-								return true;
-							}
-						}
-					}
+			TableScanner scanner = new TableScanner(driver(), tableId, nextButton);
+			for (TableScanner.Row row : scanner) {
+				if (!cellContains(row, tableColumnIndex, searchText) || !rowMatches(row, additionalLookupValues)) {
+					continue;
 				}
-
-				if (nextButton != null && nextButton.isEnabled()) {
-					nextButton.click();
-					logger.info("Next button clicked, checking the next set of entries");
-					rowCount += tableSize;
-					tableEntries = driver.findElement(By.id(tableId)).findElements(By.tagName("tr"));
-				} else {
-					logger.info("Reached the end of the table, text '{}' not found", searchText);
-					break;
+				highlightTableCell(row, tableColumnIndex);
+				logger.info("All lookup values match for text '{}'", searchText);
+
+				WebElement actionElement = driver()
+						.findElement(By.xpath(actionButtonPrefix + row.getIndex() + actionButtonPostfix));
+				if (actionElement.isDisplayed()) {
+					highlightElement(actionElement);
+					actionElement.click();
+					logger.info("Action performed on text '{}'. {}", searchText, scanner.stats());
+					return true;
 				}
 			}
-			logger.info("Search completed. Text '{}' not found in the table", searchText);
+			logger.info("Search completed. Text '{}' not found in the table. {}", searchText, scanner.stats());
 			return false;
 		} catch (Exception e) {
 			logger.error("Exception occurred while verifying text in table and performing action: ", e);
@@ -1650,44 +1583,29 @@ public class ElementInteractionUtils {
 	public static boolean countTextInFilteredTable(String tableId, int tableColumnIndex, String searchText,
 			WebElement nextButton) {
 		int count = 0;
+		int mismatches = 0;
 		try {
-			WebElement table = driver.findElement(By.id(tableId));
+			WebElement table = driver().findElement(By.id(tableId));
 			scrollToElement(table);
-			List<WebElement> tableEntries = table.findElements(By.tagName("tr"));
-			if (tableEntries.size() > 2) {
-				String rowXpathPrefix = "//table[@id='" + tableId + "']/tbody/tr[";
-				String colXpathSuffix = "]/td[" + tableColumnIndex + "]";
-				while (true) {
-					int tableSize = tableEntries.size() - 1;
-					logger.info("Current number of table entries: {}", tableSize);
-
-					for (int i = 1; i <= tableSize; i++) {
-						WebElement cellElement = driver.findElement(By.xpath(rowXpathPrefix + i + colXpathSuffix));
-						String cellValue = cellElement.getText();
-						if (cellValue.equalsIgnoreCase(searchText)) {
-							highlightElement(cellElement);
-							pause(100);
-							logger.info("Text '{}' found in cell value: {}", searchText, cellValue);
-							count++;
-						} else {
-							logger.error("Unexpected text '{}' found in cell, expected '{}'", cellValue, searchText);
-						}
-					}
-
-					WebElement nextButtonLi = nextButton.findElement(By.xpath("./ancestor::li"));
-					if (nextButton != null && nextButton.isEnabled()
-							&& !nextButtonLi.getAttribute("class").contains("disabled")) {
-						highlightElement(nextButton);
-						WebElement copyright = driver.findElement(By.xpath("//*[@id='app']/div[2]/footer/div/a"));
-						scrollToElement(copyright);
-						nextButton.click();
-						logger.info("Next button clicked, checking the next set of entries");
-						tableEntries = driver.findElement(By.id(tableId)).findElements(By.tagName("tr"));
+			TableScanner scanner = new TableScanner(driver(), tableId, nextButton);
+			// a header row and at least two data rows, as before the scanner
+			if (scanner.firstPage().tableRowCount() > 2) {
+				for (TableScanner.Row row : scanner) {
+					String cellValue = row.text(tableColumnIndex);
+					if (searchText.equalsIgnoreCase(cellValue)) {
+						count++;
 					} else {
-						logger.info("Reached the end of the table, final count of '{}' is: {}", searchText, count);
-						break;
+						mismatches++;
 					}
 				}
+				// one summary line for the whole scan instead of one per row
+				if (mismatches > 0) {
+					logger.error("Reached the end of the table: {} cell(s) matched '{}', {} cell(s) did not. {}",
+							count, searchText, mismatches, scanner.stats());
+				} else {
+					logger.info("Reached the end of the table, final count of '{}' is: {}. {}", searchText, count,
+							scanner.stats());
+				}
 			} else {
 				logger.warn("No data available in the table for search text: {}", searchText);
 			}
@@ -1700,6 +1618,39 @@ public class ElementInteractionUtils {
 		return true;
 	}
 
+	private static boolean cellContains(TableScanner.Row row, int columnIndex, String searchText) {
+		String cellValue = row.text(columnIndex);
+		return cellValue != null && cellValue.contains(searchText);
+	}
+
+	/**
+	 * Checks the additional column values of a table row against the extracted
+	 * page, without going back to the browser.
+	 */
+	private static boolean rowMatches(TableScanner.Row row, Map<Integer, String> additionalLookupValues) {
+		for (Map.Entry<Integer, String> entry : additionalLookupValues.entrySet()) {
+			int lookupColumnIndex = entry.getKey();
+			String expectedValue = entry.getValue();
+			String actualValue = row.text(lookupColumnIndex);
+			if (!expectedValue.equals(actualValue)) {
+				logger.info("Mismatch found in column {}: expected '{}', but got '{}'", lookupColumnIndex,
+						expectedValue, actualValue);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Highlights a matched table cell; the cell lookup is skipped entirely when
+	 * highlighting is off.
+	 */
+	private static void highlightTableCell(TableScanner.Row row, int columnIndex) {
+		if (highlightMode != HighlightMode.OFF) {
+			highlightElement(row.cell(columnIndex));
+		}
+	}
+
 	/********************************************************************************************
 	 * Uploads a file to the specified web element (e.g., file input field).
 	 * 
@@ -1780,11 +1731,11 @@ public class ElementInteractionUtils {
 				throw new IllegalArgumentException("Invalid date format: " + date);
 			}
 			webElement.click();
-			WebElement yearToggleButton = driver.findElement(By.xpath("//*[@id='datePickerHeader']"));
+			WebElement yearToggleButton = driver().findElement(By.xpath("//*[@id='datePickerHeader']"));
 			highlightElement(yearToggleButton);
 			yearToggleButton.click();
 
-			String displayedYearText = driver.findElement(By.xpath("(//*[@id=\"datePickerHeader\"])[2]")).getText();
+			String displayedYearText = driver().findElement(By.xpath("(//*[@id=\"datePickerHeader\"])[2]")).getText();
 			logger.info("Displayed Calendar Year: {}", displayedYearText);
 
 			int displayedYear = Integer.parseInt(displayedYearText);
@@ -1834,10 +1785,10 @@ public class ElementInteractionUtils {
 			By navigationButtonLocator = By.xpath(yearDifference > 0 ? "(//*[@id=\"datePickerPrevious\"])[2]" : "(//*[@id=\"datePickerNext\"])[4]");
 			for (int i = 0; i < Math.abs(yearDifference); i++) {
 				highlightElement(navigationButtonLocator);
-				driver.findElement(navigationButtonLocator).click();
+				driver().findElement(navigationButtonLocator).click();
 				logger.debug("Navigated to year: {}", targetYear);
 			}
-			logger.info("Displayed Year after selection: {}", driver.findElement(By.xpath("(//*[@id=\"datePickerHeader\"])[2]")).getText());
+			logger.info("Displayed Year after selection: {}", driver().findElement(By.xpath("(//*[@id=\"datePickerHeader\"])[2]")).getText());
 		}
 	}
 
@@ -1881,9 +1832,9 @@ public class ElementInteractionUtils {
 	 ********************************************************************************************/
 	public static String getTextByDynamicXpath(String xpathExpression) {
 		try {
-			Duration XSMALL_PAUSE = Duration.ofSeconds(Config.XSMALL_PAUSE);
-			WebDriverWait wait = new WebDriverWait(driver, XSMALL_PAUSE);
-			WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(xpathExpression)));
+			By locator = By.xpath(xpathExpression);
+			WebElement element = SmartWait.until(driver(), ExpectedConditions.visibilityOfElementLocated(locator),
+					Duration.ofSeconds(Config.XSMALL_PAUSE), "visible:" + locator);
 			String elementText = element.getText();
 			logger.info("Text retrieved from element: {}", elementText);
 			return elementText;
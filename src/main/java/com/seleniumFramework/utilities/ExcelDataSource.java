@@ -0,0 +1,43 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link DataSource} for .xlsx and .xlsm workbooks, read through the
+ * {@link ExcelSheetCache} and {@link ExcelRowIterator}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelDataSource implements DataSource {
+
+	private static final Set<String> EXTENSIONS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList("xlsx", "xlsm")));
+
+	@Override
+	public Set<String> getExtensions() {
+		return EXTENSIONS;
+	}
+
+	@Override
+	public Iterator<Object[]> open(String filePath, String sheetName) {
+		return new ExcelRowIterator(filePath, sheetName);
+	}
+
+	@Override
+	public Object[][] readAll(String filePath, String sheetName) throws IOException {
+		List<List<String>> rows = ExcelSheetCache.getSheet(filePath, sheetName);
+		Object[][] dataArray = new Object[rows.size()][];
+		for (int i = 0; i < rows.size(); i++) {
+			dataArray[i] = rows.get(i).toArray();
+		}
+		return dataArray;
+	}
+}
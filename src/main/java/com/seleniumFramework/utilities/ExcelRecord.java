@@ -0,0 +1,320 @@
+package com.seleniumFramework.utilities;
+
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import com.seleniumFramework.utilities.ExcelTable.CellKind;
+
+/**
+ * One data row of an {@link ExcelTable}, addressed by header name.
+ *
+ * A record is only a reference to its table and a row index; values are read
+ * from the table's column arrays on access. The typed getters return cells in
+ * their natural form, and also accept text that parses as the requested type,
+ * so a number typed into a text cell can still be read with
+ * {@link #getInt(String)}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelRecord {
+
+	private final ExcelTable table;
+	private final int row;
+
+	ExcelRecord(ExcelTable table, int row) {
+		this.table = table;
+		this.row = row;
+	}
+
+	/** The zero-based index of this row among the data rows. */
+	public int getRowIndex() {
+		return row;
+	}
+
+	public CellKind getKind(String column) {
+		return table.kind(table.columnIndex(column), row);
+	}
+
+	public boolean isBlank(String column) {
+		return getKind(column) == CellKind.BLANK;
+	}
+
+	/********************************************************************************************
+	 * Returns a cell as text: numbers without a trailing ".0" when whole, dates
+	 * in ISO-8601 form, booleans as true/false and blank cells as an empty
+	 * string.
+	 *
+	 * @param column the header of the column
+	 * @return the cell as text
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public String getString(String column) {
+		return text(table.columnIndex(column));
+	}
+
+	/********************************************************************************************
+	 * Returns a numeric cell, or a text cell parsed as a number.
+	 *
+	 * @param column the header of the column
+	 * @return the value of the cell
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 * @throws IllegalStateException    if the cell is blank, a boolean or a date
+	 * @throws NumberFormatException    if a text cell is not a number
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public double getDouble(String column) {
+		int index = table.columnIndex(column);
+		switch (table.kind(index, row)) {
+		case NUMBER:
+			return table.number(index, row);
+		case STRING:
+			return Double.parseDouble(table.string(index, row).trim());
+		default:
+			throw unexpected(column, "a number");
+		}
+	}
+
+	/********************************************************************************************
+	 * Returns a whole-number cell, or a text cell parsed as a whole number.
+	 *
+	 * @param column the header of the column
+	 * @return the value of the cell
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 * @throws IllegalStateException    if the cell is not a whole number
+	 * @throws NumberFormatException    if a text cell is not a whole number
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public long getLong(String column) {
+		int index = table.columnIndex(column);
+		switch (table.kind(index, row)) {
+		case NUMBER:
+			double value = table.number(index, row);
+			if (value != Math.rint(value) || Math.abs(value) > Long.MAX_VALUE) {
+				throw unexpected(column, "a whole number");
+			}
+			return (long) value;
+		case STRING:
+			return Long.parseLong(table.string(index, row).trim());
+		default:
+			throw unexpected(column, "a whole number");
+		}
+	}
+
+	public int getInt(String column) {
+		return Math.toIntExact(getLong(column));
+	}
+
+	/********************************************************************************************
+	 * Returns a boolean cell, or a text cell reading true or false.
+	 *
+	 * @param column the header of the column
+	 * @return the value of the cell
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 * @throws IllegalStateException    if the cell is not a boolean
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public boolean getBoolean(String column) {
+		int index = table.columnIndex(column);
+		CellKind kind = table.kind(index, row);
+		if (kind == CellKind.BOOLEAN) {
+			return table.number(index, row) != 0;
+		}
+		if (kind == CellKind.STRING) {
+			String text = table.string(index, row).trim();
+			if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+				return Boolean.parseBoolean(text);
+			}
+		}
+		throw unexpected(column, "a boolean");
+	}
+
+	/********************************************************************************************
+	 * Returns a date cell, or a plain numeric cell read as an Excel serial date.
+	 *
+	 * @param column the header of the column
+	 * @return the value of the cell
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 * @throws IllegalStateException    if the cell is not a date
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public LocalDateTime getLocalDateTime(String column) {
+		int index = table.columnIndex(column);
+		CellKind kind = table.kind(index, row);
+		if (kind != CellKind.DATE && kind != CellKind.NUMBER) {
+			throw unexpected(column, "a date");
+		}
+		return DateUtil.getLocalDateTime(table.number(index, row), table.isDate1904());
+	}
+
+	public Date getDate(String column) {
+		int index = table.columnIndex(column);
+		CellKind kind = table.kind(index, row);
+		if (kind != CellKind.DATE && kind != CellKind.NUMBER) {
+			throw unexpected(column, "a date");
+		}
+		return DateUtil.getJavaDate(table.number(index, row), table.isDate1904());
+	}
+
+	/********************************************************************************************
+	 * Returns a cell in its natural type: String, Double, Boolean, LocalDateTime,
+	 * or null for a blank cell.
+	 *
+	 * @param column the header of the column
+	 * @return the value of the cell
+	 * @throws IllegalArgumentException if the sheet has no such column
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public Object get(String column) {
+		return value(table.columnIndex(column));
+	}
+
+	/********************************************************************************************
+	 * Returns a read-only map view of this row, keyed by header in column order.
+	 * Values are those of {@link #get(String)}; nothing is copied.
+	 *
+	 * @return the row as a map
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public Map<String, Object> asMap() {
+		return new AbstractMap<String, Object>() {
+			@Override
+			public Object get(Object key) {
+				return key instanceof String && table.hasColumn((String) key) ? ExcelRecord.this.get((String) key)
+						: null;
+			}
+
+			@Override
+			public boolean containsKey(Object key) {
+				return key instanceof String && table.hasColumn((String) key);
+			}
+
+			@Override
+			public Set<Map.Entry<String, Object>> entrySet() {
+				return new AbstractSet<Map.Entry<String, Object>>() {
+					@Override
+					public Iterator<Map.Entry<String, Object>> iterator() {
+						return new Iterator<Map.Entry<String, Object>>() {
+							private final List<String> headers = table.getHeaders();
+							private int next = advance(0);
+
+							private int advance(int from) {
+								while (from < headers.size() && !isMapped(from)) {
+									from++;
+								}
+								return from;
+							}
+
+							private boolean isMapped(int index) {
+								String header = headers.get(index);
+								return !header.isEmpty() && table.columnIndex(header) == index;
+							}
+
+							@Override
+							public boolean hasNext() {
+								return next < headers.size();
+							}
+
+							@Override
+							public Map.Entry<String, Object> next() {
+								if (!hasNext()) {
+									throw new NoSuchElementException();
+								}
+								int index = next;
+								next = advance(next + 1);
+								return new AbstractMap.SimpleImmutableEntry<>(headers.get(index), value(index));
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						int size = 0;
+						for (Iterator<?> entries = iterator(); entries.hasNext(); entries.next()) {
+							size++;
+						}
+						return size;
+					}
+				};
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		Map<String, String> cells = new LinkedHashMap<>();
+		List<String> headers = table.getHeaders();
+		for (int i = 0; i < headers.size(); i++) {
+			cells.put(headers.get(i).isEmpty() ? "#" + i : headers.get(i), text(i));
+		}
+		return table.getSheetName() + "[" + row + "]" + cells;
+	}
+
+	static String formatNumber(double value) {
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			return Long.toString((long) value);
+		}
+		return Double.toString(value);
+	}
+
+	private String text(int index) {
+		switch (table.kind(index, row)) {
+		case STRING:
+			return table.string(index, row);
+		case NUMBER:
+			return formatNumber(table.number(index, row));
+		case DATE:
+			return DateUtil.getLocalDateTime(table.number(index, row), table.isDate1904()).toString();
+		case BOOLEAN:
+			return Boolean.toString(table.number(index, row) != 0);
+		default:
+			return "";
+		}
+	}
+
+	private Object value(int index) {
+		switch (table.kind(index, row)) {
+		case STRING:
+			return table.string(index, row);
+		case NUMBER:
+			return table.number(index, row);
+		case DATE:
+			return DateUtil.getLocalDateTime(table.number(index, row), table.isDate1904());
+		case BOOLEAN:
+			return table.number(index, row) != 0;
+		default:
+			return null;
+		}
+	}
+
+	private IllegalStateException unexpected(String column, String expected) {
+		return new IllegalStateException("Cell " + column + " of row " + row + " in sheet " + table.getSheetName()
+				+ " is not " + expected + ": " + getKind(column) + " '" + getString(column) + "'");
+	}
+}
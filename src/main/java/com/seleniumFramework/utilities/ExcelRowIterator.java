@@ -0,0 +1,140 @@
+package com.seleniumFramework.utilities;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Lazy {@code Iterator<Object[]>} over the rows of an Excel sheet, meant to be
+ * returned from TestNG {@code @DataProvider} methods.
+ *
+ * The sheet is opened when the first row is requested and rows are read one at
+ * a time with {@link ExcelSheetReader} as TestNG consumes them, so the first
+ * data-driven test starts as soon as the first row is parsed and the sheet is
+ * never held in memory as a whole. The workbook is closed as soon as the last
+ * row has been handed out or reading fails. A sheet that is already in the
+ * {@link ExcelSheetCache} or has an up-to-date {@link ExcelSnapshot} is served
+ * from there without opening the workbook.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelRowIterator implements Iterator<Object[]>, Closeable {
+
+	private static final Logger logger = LogManager.getLogger(ExcelRowIterator.class);
+
+	private final String filePath;
+	private final String sheetName;
+	private ExcelSheetReader reader;
+	private Iterator<List<String>> cachedRows;
+	private List<String> nextRow;
+	private boolean exhausted;
+
+	/********************************************************************************************
+	 * Creates an iterator over the given sheet. Nothing is read until the first
+	 * call to {@link #hasNext()}.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet to read
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public ExcelRowIterator(String filePath, String sheetName) {
+		this.filePath = filePath;
+		this.sheetName = sheetName;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (nextRow != null) {
+			return true;
+		}
+		if (exhausted) {
+			return false;
+		}
+		if (reader == null && cachedRows == null) {
+			List<List<String>> cached = ExcelSheetCache.getIfCached(filePath, sheetName);
+			if (cached != null) {
+				logger.info("Serving sheet {} of {} from the Excel sheet cache", sheetName, filePath);
+				cachedRows = cached.iterator();
+			} else {
+				List<List<String>> snapshot = ExcelSnapshot.load(filePath, sheetName);
+				if (snapshot != null) {
+					cachedRows = snapshot.iterator();
+				}
+			}
+		}
+		if (cachedRows != null) {
+			if (cachedRows.hasNext()) {
+				nextRow = cachedRows.next();
+				return true;
+			}
+			exhausted = true;
+			return false;
+		}
+		try {
+			if (reader == null) {
+				reader = ExcelSheetReader.open(filePath, sheetName);
+				logger.info("Opened sheet {} of {} for lazy iteration", sheetName, filePath);
+			}
+			nextRow = reader.nextRow();
+		} catch (IOException e) {
+			logger.error("Exception while reading Excel file: {}", e.getMessage(), e);
+			closeQuietly();
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			closeQuietly();
+			throw e;
+		}
+		if (nextRow == null) {
+			logger.info("Read {} row(s) from sheet {} of {}", reader.getRowNumber(), sheetName, filePath);
+			closeQuietly();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more rows in sheet " + sheetName + " of " + filePath);
+		}
+		Object[] row = nextRow.toArray();
+		nextRow = null;
+		return row;
+	}
+
+	/********************************************************************************************
+	 * Closes the workbook early, e.g. when a test run is aborted before all rows
+	 * have been consumed.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	@Override
+	public void close() throws IOException {
+		exhausted = true;
+		nextRow = null;
+		if (reader != null) {
+			ExcelSheetReader openReader = reader;
+			reader = null;
+			openReader.close();
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			close();
+		} catch (IOException e) {
+			logger.error("Failed to close sheet {} of {}: {}", sheetName, filePath, e.getMessage(), e);
+		}
+	}
+}
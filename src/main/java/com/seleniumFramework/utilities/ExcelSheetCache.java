@@ -0,0 +1,354 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Process-wide cache of parsed Excel sheets.
+ *
+ * Sheets are keyed by (absolute path, sheet name, last-modified time, file
+ * size), so editing or re-saving a workbook invalidates its cached sheets
+ * without any explicit call. Entries are evicted least-recently-used once their
+ * estimated size exceeds {@link Config#EXCEL_CACHE_MAX_MB}; sheets larger than
+ * the cap are parsed but not cached. Concurrent requests for the same sheet
+ * share a single parse. A sheet with an up-to-date {@link ExcelSnapshot} is
+ * loaded from the snapshot instead of being parsed, and a parsed sheet is
+ * compiled into a snapshot for the next run. Typed {@link ExcelTable}s of a
+ * sheet are cached the same way, next to its rows and under the same limit,
+ * but are always parsed from the workbook since snapshots only hold text.
+ *
+ * Cached rows and tables are immutable and shared between callers.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelSheetCache {
+
+	private static final Logger logger = LogManager.getLogger(ExcelSheetCache.class);
+	private static final long MAX_BYTES = Config.EXCEL_CACHE_MAX_MB * 1024 * 1024;
+	private static final Map<SheetKey, CachedSheet> sheets = new LinkedHashMap<>(16, 0.75f, true);
+	private static final Map<SheetKey, CompletableFuture<CachedSheet>> loading = new ConcurrentHashMap<>();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong evictions = new AtomicLong();
+	private static long cachedBytes;
+
+	private ExcelSheetCache() {
+	}
+
+	/********************************************************************************************
+	 * Returns the rows of a sheet, loading its snapshot or parsing the workbook
+	 * only if the sheet is not cached for the file's current version.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @return the immutable rows of the sheet
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static List<List<String>> getSheet(String filePath, String sheetName) throws IOException {
+		SheetKey key = SheetKey.of(filePath, sheetName, false);
+		return load(key, () -> parse(key, filePath, sheetName)).rows;
+	}
+
+	/********************************************************************************************
+	 * Returns the typed contents of a sheet whose first row holds the column
+	 * headers, reading the workbook only if the table is not cached for the
+	 * file's current version.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @return the shared, read-only table
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ExcelTable getTable(String filePath, String sheetName) throws IOException {
+		SheetKey key = SheetKey.of(filePath, sheetName, true);
+		return load(key, () -> {
+			ExcelTable table = ExcelTable.read(filePath, sheetName);
+			return new CachedSheet(table, table.estimatedBytes());
+		}).table;
+	}
+
+	/********************************************************************************************
+	 * Loads several sheets of a workbook concurrently, one sheet per task on a
+	 * shared fork-join pool of {@link Config#EXCEL_LOADER_THREADS} threads, and
+	 * caches them. Later reads of these sheets, e.g. one per test class, are then
+	 * served from the cache.
+	 *
+	 * @param filePath   the path of the Excel file
+	 * @param sheetNames the names of the sheets; all sheets of the workbook if
+	 *                   empty
+	 * @return the immutable rows of each sheet, in the order requested
+	 * @throws IOException              if the file or a sheet cannot be read
+	 * @throws IllegalArgumentException if a sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Map<String, List<List<String>>> preload(String filePath, String... sheetNames) throws IOException {
+		long start = System.nanoTime();
+		List<String> names = sheetNames.length > 0 ? Arrays.asList(sheetNames)
+				: ExcelSheetReader.sheetNames(filePath);
+		Map<String, CompletableFuture<List<List<String>>>> tasks = new LinkedHashMap<>();
+		for (String sheetName : names) {
+			tasks.put(sheetName, CompletableFuture.supplyAsync(() -> {
+				try {
+					return getSheet(filePath, sheetName);
+				} catch (IOException e) {
+					throw new CompletionException(e);
+				}
+			}, LoaderPool.POOL));
+		}
+		Map<String, List<List<String>>> loaded = new LinkedHashMap<>();
+		for (Map.Entry<String, CompletableFuture<List<List<String>>>> task : tasks.entrySet()) {
+			loaded.put(task.getKey(), await(task.getValue()));
+		}
+		logger.info("Preloaded {} sheet(s) of {} in {} ms", loaded.size(), filePath,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return loaded;
+	}
+
+	/********************************************************************************************
+	 * Returns the rows of a sheet only if they are already cached for the file's
+	 * current version; never parses.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @return the immutable rows of the sheet, or null if not cached
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static List<List<String>> getIfCached(String filePath, String sheetName) {
+		try {
+			CachedSheet cached = lookup(SheetKey.of(filePath, sheetName, false));
+			if (cached != null) {
+				hits.incrementAndGet();
+				return cached.rows;
+			}
+		} catch (IOException e) {
+			logger.debug("Unable to stat {}: {}", filePath, e.getMessage());
+		}
+		return null;
+	}
+
+	/********************************************************************************************
+	 * Summarises the cache: entries, estimated size and hit/miss/eviction counts.
+	 *
+	 * @return the cache statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static synchronized String stats() {
+		return String.format("Excel sheet cache: %d sheet(s), ~%d KB of %d MB, %d hit(s), %d miss(es), %d eviction(s)",
+				sheets.size(), cachedBytes / 1024, Config.EXCEL_CACHE_MAX_MB, hits.get(), misses.get(),
+				evictions.get());
+	}
+
+	public static synchronized void clear() {
+		sheets.clear();
+		cachedBytes = 0;
+	}
+
+	/**
+	 * Returns the cached entry or runs the loader once, sharing its result with
+	 * concurrent callers that ask for the same key.
+	 */
+	private static CachedSheet load(SheetKey key, SheetLoader loader) throws IOException {
+		CachedSheet cached = lookup(key);
+		if (cached != null) {
+			hits.incrementAndGet();
+			return cached;
+		}
+		CompletableFuture<CachedSheet> load = new CompletableFuture<>();
+		CompletableFuture<CachedSheet> inFlight = loading.putIfAbsent(key, load);
+		if (inFlight != null) {
+			hits.incrementAndGet();
+			return await(inFlight);
+		}
+		misses.incrementAndGet();
+		try {
+			CachedSheet parsed = loader.load();
+			store(key, parsed);
+			load.complete(parsed);
+			return parsed;
+		} catch (IOException | RuntimeException e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(key);
+		}
+	}
+
+	private static synchronized CachedSheet lookup(SheetKey key) {
+		return sheets.get(key);
+	}
+
+	private static synchronized void store(SheetKey key, CachedSheet sheet) {
+		// older versions of the same sheet can never be hit again
+		sheets.entrySet().removeIf(entry -> {
+			boolean outdated = entry.getKey().isOlderVersionOf(key);
+			if (outdated) {
+				cachedBytes -= entry.getValue().estimatedBytes;
+			}
+			return outdated;
+		});
+		if (sheet.estimatedBytes > MAX_BYTES) {
+			logger.info("Sheet {} of {} (~{} KB) exceeds the cache limit, not cached", key.sheetName, key.path,
+					sheet.estimatedBytes / 1024);
+			return;
+		}
+		sheets.put(key, sheet);
+		cachedBytes += sheet.estimatedBytes;
+		Iterator<Map.Entry<SheetKey, CachedSheet>> eldest = sheets.entrySet().iterator();
+		while (cachedBytes > MAX_BYTES && eldest.hasNext()) {
+			Map.Entry<SheetKey, CachedSheet> entry = eldest.next();
+			cachedBytes -= entry.getValue().estimatedBytes;
+			eldest.remove();
+			evictions.incrementAndGet();
+			logger.info("Evicted sheet {} of {} from the Excel sheet cache", entry.getKey().sheetName,
+					entry.getKey().path);
+		}
+	}
+
+	private static CachedSheet parse(SheetKey key, String filePath, String sheetName) throws IOException {
+		List<List<String>> snapshot = ExcelSnapshot.load(filePath, sheetName);
+		if (snapshot != null) {
+			// rows are decoded from the mapped file on access; only the views count against the heap
+			return new CachedSheet(snapshot, 64 + 64L * snapshot.size());
+		}
+		long start = System.nanoTime();
+		List<List<String>> rows = new ArrayList<>();
+		long[] estimatedBytes = { 64 };
+		try (ExcelSheetReader reader = ExcelSheetReader.open(filePath, sheetName)) {
+			reader.forEachRow(row -> {
+				rows.add(Collections.unmodifiableList(row));
+				estimatedBytes[0] += 64 + 8L * row.size();
+				for (String cell : row) {
+					estimatedBytes[0] += 40 + cell.length();
+				}
+			});
+		}
+		CachedSheet sheet = new CachedSheet(Collections.unmodifiableList(rows), estimatedBytes[0]);
+		logger.info("Parsed sheet {} of {} ({} row(s), ~{} KB) in {} ms", sheetName, key.path, rows.size(),
+				sheet.estimatedBytes / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		ExcelSnapshot.store(filePath, sheetName, key.size, key.lastModified, sheet.rows);
+		return sheet;
+	}
+
+	private static <T> T await(CompletableFuture<T> inFlight) throws IOException {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new UncheckedIOException(new IOException(cause));
+		}
+	}
+
+	/** Created on first use, so suites that never preload start no threads. */
+	private static final class LoaderPool {
+		private static final ForkJoinPool POOL = new ForkJoinPool(Config.EXCEL_LOADER_THREADS);
+	}
+
+	private interface SheetLoader {
+		CachedSheet load() throws IOException;
+	}
+
+	/** The rows of a sheet, or its typed table if the key is typed. */
+	private static final class CachedSheet {
+		private final List<List<String>> rows;
+		private final ExcelTable table;
+		private final long estimatedBytes;
+
+		private CachedSheet(List<List<String>> rows, long estimatedBytes) {
+			this.rows = rows;
+			this.table = null;
+			this.estimatedBytes = estimatedBytes;
+		}
+
+		private CachedSheet(ExcelTable table, long estimatedBytes) {
+			this.rows = null;
+			this.table = table;
+			this.estimatedBytes = estimatedBytes;
+		}
+	}
+
+	private static final class SheetKey {
+		private final String path;
+		private final String sheetName;
+		private final long lastModified;
+		private final long size;
+		private final boolean typed;
+
+		private SheetKey(String path, String sheetName, long lastModified, long size, boolean typed) {
+			this.path = path;
+			this.sheetName = sheetName;
+			this.lastModified = lastModified;
+			this.size = size;
+			this.typed = typed;
+		}
+
+		static SheetKey of(String filePath, String sheetName, boolean typed) throws IOException {
+			Path file = Paths.get(filePath).toAbsolutePath().normalize();
+			return new SheetKey(file.toString(), sheetName, Files.getLastModifiedTime(file).toMillis(),
+					Files.size(file), typed);
+		}
+
+		boolean isOlderVersionOf(SheetKey other) {
+			return path.equals(other.path) && sheetName.equals(other.sheetName) && typed == other.typed
+					&& !equals(other);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof SheetKey)) {
+				return false;
+			}
+			SheetKey other = (SheetKey) o;
+			return lastModified == other.lastModified && size == other.size && typed == other.typed
+					&& path.equals(other.path) && sheetName.equals(other.sheetName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(path, sheetName, lastModified, size, typed);
+		}
+	}
+}
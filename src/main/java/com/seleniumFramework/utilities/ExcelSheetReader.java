@@ -0,0 +1,553 @@
+package com.seleniumFramework.utilities;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+/**
+ * Streaming reader for one sheet of an .xlsx workbook.
+ *
+ * Built on POI's event model: the package is opened read-only through
+ * {@link XSSFReader}, shared strings come from
+ * {@link ReadOnlySharedStringsTable} and the sheet XML is pulled row by row
+ * with a StAX parser, so only the current row is held in memory no matter how
+ * large the sheet is. A pull parser is used instead of a SAX push handler so
+ * that callers can iterate at their own pace.
+ *
+ * Cells are converted exactly like the workbook based readers did: present
+ * cells only (undefined cells are skipped), formulas as formula text (a cell
+ * of a filled-down shared formula gets the master's formula with its relative
+ * references shifted, as XSSFCell reports it), numbers
+ * via {@link Double#toString(double)}, dates via {@link java.util.Date#toString()},
+ * booleans as true/false and blank or error cells as an empty string.
+ * {@link #nextRow(CellHandler)} reports the same cells in typed form instead,
+ * which {@link ExcelTable} builds on.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelSheetReader implements Closeable {
+
+	private static final Logger logger = LogManager.getLogger(ExcelSheetReader.class);
+	// string literals and quoted sheet names are matched only to be skipped
+	private static final Pattern CELL_REFERENCE = Pattern.compile("\"(?:[^\"]|\"\")*\"|'(?:[^']|'')*'"
+			+ "|(?<![A-Za-z0-9_.])(\\$?)([A-Za-z]{1,3})(\\$?)([0-9]+)(?![A-Za-z0-9_(!])");
+
+	private final String filePath;
+	private final String sheetName;
+	private final OPCPackage pkg;
+	private final ReadOnlySharedStringsTable sharedStrings;
+	private final StylesTable styles;
+	private final boolean date1904;
+	private final InputStream sheetStream;
+	private final XMLStreamReader xml;
+	private int rowNumber;
+	private boolean finished;
+	// the cell being parsed; fields instead of a holder object so that no per-cell object is allocated
+	private String cellType;
+	private String cellStyle;
+	private String cellFormula;
+	private String cellValue;
+	private String cellInlineText;
+	// master formulas of the shared formulas seen so far, by their si index
+	private final Map<String, SharedFormula> sharedFormulas = new HashMap<>();
+
+	private ExcelSheetReader(String filePath, String sheetName) throws IOException {
+		this.filePath = filePath;
+		this.sheetName = sheetName;
+		this.pkg = openPackage(filePath);
+		InputStream stream = null;
+		try {
+			XSSFReader reader = new XSSFReader(pkg);
+			this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+			this.styles = reader.getStylesTable();
+			this.date1904 = isDate1904(reader);
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			while (sheets.hasNext()) {
+				InputStream candidate = sheets.next();
+				if (sheets.getSheetName().equals(sheetName)) {
+					stream = candidate;
+					break;
+				}
+				candidate.close();
+			}
+			if (stream == null) {
+				logger.error("Sheet {} does not exist in {}", sheetName, filePath);
+				throw new IllegalArgumentException("Sheet " + sheetName + " does not exist in " + filePath);
+			}
+			this.sheetStream = stream;
+			this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(stream);
+		} catch (OpenXML4JException | SAXException | XMLStreamException e) {
+			closeQuietly(stream);
+			pkg.revert();
+			throw new IOException("Unable to open sheet " + sheetName + " of " + filePath + ": " + e.getMessage(), e);
+		} catch (IOException | RuntimeException e) {
+			closeQuietly(stream);
+			pkg.revert();
+			throw e;
+		}
+	}
+
+	/********************************************************************************************
+	 * Opens a sheet of an .xlsx workbook for streaming.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet to read
+	 * @return the reader, positioned before the first row
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ExcelSheetReader open(String filePath, String sheetName) throws IOException {
+		return new ExcelSheetReader(filePath, sheetName);
+	}
+
+	/********************************************************************************************
+	 * Lists the sheets of an .xlsx workbook without parsing any of them.
+	 *
+	 * @param filePath the path of the Excel file
+	 * @return the sheet names, in workbook order
+	 * @throws IOException if the file cannot be read
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static List<String> sheetNames(String filePath) throws IOException {
+		OPCPackage pkg = openPackage(filePath);
+		try {
+			List<String> names = new ArrayList<>();
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+			while (sheets.hasNext()) {
+				sheets.next().close();
+				names.add(sheets.getSheetName());
+			}
+			return names;
+		} catch (OpenXML4JException e) {
+			throw new IOException("Unable to list sheets of " + filePath + ": " + e.getMessage(), e);
+		} finally {
+			pkg.revert();
+		}
+	}
+
+	/********************************************************************************************
+	 * Reads the next row of the sheet.
+	 *
+	 * @return the cell values of the row, or null once the sheet is exhausted
+	 * @throws IOException if the sheet XML cannot be parsed
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public List<String> nextRow() throws IOException {
+		if (finished) {
+			return null;
+		}
+		try {
+			while (xml.hasNext()) {
+				int event = xml.next();
+				if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+					rowNumber++;
+					return readRow();
+				}
+				if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+					break;
+				}
+			}
+			finished = true;
+			return null;
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to parse sheet " + sheetName + " of " + filePath + ": " + e.getMessage(), e);
+		}
+	}
+
+	/********************************************************************************************
+	 * Reads the next row of the sheet and reports its cells to the handler in
+	 * their typed form. Unlike {@link #nextRow()}, cells are reported at their
+	 * actual column index and formulas by the value Excel cached for them.
+	 *
+	 * @param handler receives the cells of the row
+	 * @return false once the sheet is exhausted
+	 * @throws IOException if the sheet XML cannot be parsed
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public boolean nextRow(CellHandler handler) throws IOException {
+		if (finished) {
+			return false;
+		}
+		try {
+			while (xml.hasNext()) {
+				int event = xml.next();
+				if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+					rowNumber++;
+					readTypedRow(handler);
+					return true;
+				}
+				if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+					break;
+				}
+			}
+			finished = true;
+			return false;
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to parse sheet " + sheetName + " of " + filePath + ": " + e.getMessage(), e);
+		}
+	}
+
+	/********************************************************************************************
+	 * Streams all remaining rows of the sheet to the consumer.
+	 *
+	 * @param consumer receives the cell values of each row
+	 * @return the number of rows read
+	 * @throws IOException if the sheet XML cannot be parsed
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public int forEachRow(Consumer<List<String>> consumer) throws IOException {
+		int count = 0;
+		for (List<String> row = nextRow(); row != null; row = nextRow()) {
+			consumer.accept(row);
+			count++;
+		}
+		return count;
+	}
+
+	/** Number of rows read so far. */
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	/** Whether dates in this workbook count from 1904 instead of 1900. */
+	public boolean isDate1904() {
+		return date1904;
+	}
+
+	/**
+	 * Receives the typed cells of a row from {@link #nextRow(CellHandler)}.
+	 * Values are passed as primitives so that no cell is boxed.
+	 */
+	public interface CellHandler {
+
+		void string(int column, String value);
+
+		void number(int column, double value);
+
+		/** A date formatted number, as an Excel serial date; see {@link #isDate1904()}. */
+		void date(int column, double excelDate);
+
+		void bool(int column, boolean value);
+
+		/** A cell without a value, or with an error value. */
+		void blank(int column);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			xml.close();
+		} catch (XMLStreamException e) {
+			logger.error("Failed to close sheet parser for {}: {}", filePath, e.getMessage(), e);
+		} finally {
+			closeQuietly(sheetStream);
+			pkg.revert();
+		}
+	}
+
+	private List<String> readRow() throws XMLStreamException {
+		List<String> cells = new ArrayList<>();
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+				readCell();
+				cells.add(cellAsString());
+			} else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+				break;
+			}
+		}
+		return cells;
+	}
+
+	private void readTypedRow(CellHandler handler) throws XMLStreamException {
+		int column = -1;
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+				column = columnIndex(xml.getAttributeValue(null, "r"), column + 1);
+				readCell();
+				dispatchTypedCell(column, handler);
+			} else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+				break;
+			}
+		}
+	}
+
+	private void readCell() throws XMLStreamException {
+		String reference = xml.getAttributeValue(null, "r");
+		cellType = xml.getAttributeValue(null, "t");
+		cellStyle = xml.getAttributeValue(null, "s");
+		cellFormula = null;
+		cellValue = null;
+		StringBuilder inlineText = null;
+		int phoneticDepth = 0;
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				String name = xml.getLocalName();
+				if ("f".equals(name)) {
+					String sharedIndex = "shared".equals(xml.getAttributeValue(null, "t"))
+							? xml.getAttributeValue(null, "si")
+							: null;
+					cellFormula = xml.getElementText();
+					if (sharedIndex != null) {
+						cellFormula = sharedFormula(sharedIndex, cellFormula, reference);
+					}
+				} else if ("v".equals(name)) {
+					cellValue = xml.getElementText();
+				} else if ("is".equals(name)) {
+					inlineText = new StringBuilder();
+				} else if ("rPh".equals(name)) {
+					phoneticDepth++;
+				} else if ("t".equals(name) && inlineText != null && phoneticDepth == 0) {
+					inlineText.append(xml.getElementText());
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				String name = xml.getLocalName();
+				if ("rPh".equals(name)) {
+					phoneticDepth--;
+				} else if ("c".equals(name)) {
+					break;
+				}
+			}
+		}
+		cellInlineText = inlineText == null ? null : inlineText.toString();
+	}
+
+	private String cellAsString() {
+		if (cellFormula != null && !cellFormula.isEmpty()) {
+			return cellFormula;
+		}
+		if (cellInlineText != null) {
+			return cellInlineText;
+		}
+		if (cellValue == null) {
+			return "";
+		}
+		if (cellType == null || "n".equals(cellType)) {
+			return numericValue(Double.parseDouble(cellValue), cellStyle);
+		}
+		switch (cellType) {
+		case "s":
+			return sharedString(cellValue);
+		case "b":
+			return Boolean.toString(booleanValue(cellValue));
+		case "e":
+			return "";
+		default:
+			return cellValue;
+		}
+	}
+
+	// formulas are reported by the value Excel cached for them, not by their text
+	private void dispatchTypedCell(int column, CellHandler handler) {
+		if (cellInlineText != null) {
+			handler.string(column, cellInlineText);
+		} else if (cellValue == null || "e".equals(cellType)) {
+			handler.blank(column);
+		} else if (cellType == null || "n".equals(cellType)) {
+			double value = Double.parseDouble(cellValue);
+			if (isDateFormatted(value, cellStyle)) {
+				handler.date(column, value);
+			} else {
+				handler.number(column, value);
+			}
+		} else if ("s".equals(cellType)) {
+			handler.string(column, sharedString(cellValue));
+		} else if ("b".equals(cellType)) {
+			handler.bool(column, booleanValue(cellValue));
+		} else {
+			handler.string(column, cellValue);
+		}
+	}
+
+	/**
+	 * Registers the master cell of a shared formula, or resolves a child cell,
+	 * which carries no formula text of its own, from its master.
+	 */
+	private String sharedFormula(String sharedIndex, String formula, String reference) {
+		int row = rowIndex(reference);
+		int column = columnIndex(reference, -1);
+		if (!formula.isEmpty()) {
+			sharedFormulas.put(sharedIndex, new SharedFormula(formula, row, column));
+			return formula;
+		}
+		SharedFormula master = sharedFormulas.get(sharedIndex);
+		if (master == null || row < 0 || column < 0 || master.row < 0 || master.column < 0) {
+			logger.warn("Unable to resolve shared formula {} of cell {} in sheet {} of {}", sharedIndex, reference,
+					sheetName, filePath);
+			return formula;
+		}
+		return shiftReferences(master.formula, row - master.row, column - master.column);
+	}
+
+	/** Shifts the relative A1 references of a formula, leaving $-anchored parts alone. */
+	private static String shiftReferences(String formula, int rowOffset, int columnOffset) {
+		Matcher matcher = CELL_REFERENCE.matcher(formula);
+		StringBuilder shifted = new StringBuilder(formula.length() + 8);
+		int copied = 0;
+		while (matcher.find()) {
+			if (matcher.group(2) == null) {
+				continue;
+			}
+			boolean absoluteColumn = !matcher.group(1).isEmpty();
+			boolean absoluteRow = !matcher.group(3).isEmpty();
+			int column = columnIndex(matcher.group(2), -1) + (absoluteColumn ? 0 : columnOffset);
+			int row = Integer.parseInt(matcher.group(4)) + (absoluteRow ? 0 : rowOffset);
+			shifted.append(formula, copied, matcher.start());
+			if (column < 0 || row < 1) {
+				shifted.append("#REF!");
+			} else {
+				shifted.append(matcher.group(1)).append(columnName(column)).append(matcher.group(3)).append(row);
+			}
+			copied = matcher.end();
+		}
+		return shifted.append(formula, copied, formula.length()).toString();
+	}
+
+	private static String columnName(int column) {
+		StringBuilder name = new StringBuilder(3);
+		for (int remaining = column + 1; remaining > 0; remaining = (remaining - 1) / 26) {
+			name.insert(0, (char) ('A' + (remaining - 1) % 26));
+		}
+		return name.toString();
+	}
+
+	/** Zero-based row of an A1 reference, or -1 if it has none. */
+	private static int rowIndex(String reference) {
+		if (reference == null) {
+			return -1;
+		}
+		int i = 0;
+		while (i < reference.length() && !Character.isDigit(reference.charAt(i))) {
+			i++;
+		}
+		return i == reference.length() ? -1 : Integer.parseInt(reference.substring(i)) - 1;
+	}
+
+	private String sharedString(String index) {
+		return sharedStrings.getItemAt(Integer.parseInt(index.trim())).getString();
+	}
+
+	private static boolean booleanValue(String value) {
+		return "1".equals(value.trim()) || "true".equalsIgnoreCase(value.trim());
+	}
+
+	private static int columnIndex(String reference, int fallback) {
+		if (reference == null) {
+			return fallback;
+		}
+		int column = 0;
+		int i = 0;
+		for (; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+			column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+		}
+		return i == 0 ? fallback : column - 1;
+	}
+
+	private String numericValue(double value, String styleIndex) {
+		if (isDateFormatted(value, styleIndex)) {
+			return DateUtil.getJavaDate(value, date1904).toString();
+		}
+		return Double.toString(value);
+	}
+
+	private boolean isDateFormatted(double value, String styleIndex) {
+		if (styles != null && DateUtil.isValidExcelDate(value)) {
+			XSSFCellStyle style = styles.getStyleAt(styleIndex == null ? 0 : Integer.parseInt(styleIndex));
+			return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+		}
+		return false;
+	}
+
+	private static OPCPackage openPackage(String filePath) throws IOException {
+		try {
+			return OPCPackage.open(new File(filePath), PackageAccess.READ);
+		} catch (OpenXML4JException | IllegalArgumentException e) {
+			throw new IOException("Unable to open Excel file " + filePath + ": " + e.getMessage(), e);
+		}
+	}
+
+	private static boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, XMLStreamException {
+		try (InputStream workbookData = reader.getWorkbookData()) {
+			XMLStreamReader workbookXml = XMLHelper.newXMLInputFactory().createXMLStreamReader(workbookData);
+			try {
+				while (workbookXml.hasNext()) {
+					if (workbookXml.next() == XMLStreamConstants.START_ELEMENT) {
+						String name = workbookXml.getLocalName();
+						if ("workbookPr".equals(name)) {
+							String date1904 = workbookXml.getAttributeValue(null, "date1904");
+							return "1".equals(date1904) || "true".equalsIgnoreCase(date1904);
+						}
+						if ("sheets".equals(name)) {
+							return false;
+						}
+					}
+				}
+				return false;
+			} finally {
+				workbookXml.close();
+			}
+		}
+	}
+
+	private static final class SharedFormula {
+		private final String formula;
+		private final int row;
+		private final int column;
+
+		private SharedFormula(String formula, int row, int column) {
+			this.formula = formula;
+			this.row = row;
+			this.column = column;
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				logger.error("Failed to close stream: {}", e.getMessage(), e);
+			}
+		}
+	}
+}
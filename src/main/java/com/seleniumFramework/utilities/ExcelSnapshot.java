@@ -0,0 +1,321 @@
+package com.seleniumFramework.utilities;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Compiled binary snapshot of one Excel sheet, stored next to the workbook as
+ * {@code <workbook>.<sheet>.xsnap}.
+ *
+ * Parsing an .xlsx means unzipping it and parsing the shared strings and sheet
+ * XML; a snapshot is read by memory-mapping a single file. Cell values are
+ * interned into one string table and the cells are stored column by column as
+ * indexes into that table, so a sheet with many repeated values stays small.
+ * The mapped file lives in the OS page cache, so parallel forks loading the
+ * same sheet share one copy, and strings are only decoded when a cell is read.
+ *
+ * A snapshot carries the size, last-modified time and SHA-256 of the workbook
+ * it was compiled from. It is used when size and time still match, or when
+ * only the time differs (e.g. after a fresh checkout) but the content hash
+ * matches; otherwise the sheet is parsed again and the snapshot rewritten.
+ *
+ * Layout (big-endian): magic, version, source size, source last-modified,
+ * source SHA-256, sheet name, row count, column count, string count, string
+ * offsets, string bytes, row lengths, then one string index per row for each
+ * column (-1 past the end of a short row).
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelSnapshot {
+
+	private static final Logger logger = LogManager.getLogger(ExcelSnapshot.class);
+	private static final int MAGIC = 0x58534E50; // "XSNP"
+	private static final int VERSION = 1;
+	private static final String EXTENSION = ".xsnap";
+
+	private ExcelSnapshot() {
+	}
+
+	/********************************************************************************************
+	 * Loads the snapshot of a sheet if one exists and still matches the workbook.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @return the immutable rows of the sheet, or null if there is no usable
+	 *         snapshot
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static List<List<String>> load(String filePath, String sheetName) {
+		if (!Config.EXCEL_SNAPSHOT_ENABLED) {
+			return null;
+		}
+		Path source = Paths.get(filePath).toAbsolutePath().normalize();
+		Path snapshot = snapshotPath(source, sheetName);
+		if (!Files.isRegularFile(snapshot)) {
+			return null;
+		}
+		long start = System.nanoTime();
+		try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				logger.info("Ignoring snapshot {} written by an incompatible version", snapshot);
+				return null;
+			}
+			long size = buffer.getLong();
+			long lastModified = buffer.getLong();
+			byte[] sha256 = new byte[32];
+			buffer.get(sha256);
+			byte[] name = new byte[buffer.getInt()];
+			buffer.get(name);
+			if (!sheetName.equals(new String(name, StandardCharsets.UTF_8))
+					|| !matchesSource(source, size, lastModified, sha256)) {
+				logger.info("Snapshot {} is out of date", snapshot);
+				return null;
+			}
+			SnapshotRows rows = new SnapshotRows(buffer.slice());
+			logger.info("Loaded sheet {} of {} from snapshot ({} row(s)) in {} us", sheetName, source, rows.size(),
+					TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+			return rows;
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Unable to read snapshot {}, parsing the workbook instead: {}", snapshot, e.getMessage());
+			return null;
+		}
+	}
+
+	/********************************************************************************************
+	 * Compiles a sheet into a snapshot, parsing the workbook with
+	 * {@link ExcelSheetReader}.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @throws IOException              if the workbook cannot be read or the
+	 *                                  snapshot cannot be written
+	 * @throws IllegalArgumentException if the sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void compile(String filePath, String sheetName) throws IOException {
+		Path source = Paths.get(filePath).toAbsolutePath().normalize();
+		long size = Files.size(source);
+		long lastModified = Files.getLastModifiedTime(source).toMillis();
+		byte[] sha256 = sha256(source);
+		List<List<String>> rows = new ArrayList<>();
+		try (ExcelSheetReader reader = ExcelSheetReader.open(filePath, sheetName)) {
+			reader.forEachRow(rows::add);
+		}
+		write(source, sheetName, size, lastModified, sha256, rows);
+	}
+
+	/********************************************************************************************
+	 * Writes already parsed rows of a sheet as its snapshot. Failures are logged
+	 * and otherwise ignored, since the snapshot is only an accelerator.
+	 *
+	 * @param filePath     the path of the Excel file
+	 * @param sheetName    the name of the sheet
+	 * @param size         the size of the file the rows were parsed from
+	 * @param lastModified the last-modified time of the file the rows were parsed
+	 *                     from
+	 * @param rows         the rows of the sheet
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static void store(String filePath, String sheetName, long size, long lastModified, List<List<String>> rows) {
+		if (!Config.EXCEL_SNAPSHOT_ENABLED) {
+			return;
+		}
+		Path source = Paths.get(filePath).toAbsolutePath().normalize();
+		try {
+			byte[] sha256 = sha256(source);
+			// the workbook changed while it was parsed; the rows may not match the hash
+			if (Files.size(source) != size || Files.getLastModifiedTime(source).toMillis() != lastModified) {
+				return;
+			}
+			write(source, sheetName, size, lastModified, sha256, rows);
+		} catch (IOException e) {
+			logger.warn("Unable to write snapshot for sheet {} of {}: {}", sheetName, source, e.getMessage());
+		}
+	}
+
+	private static void write(Path source, String sheetName, long size, long lastModified, byte[] sha256,
+			List<List<String>> rows) throws IOException {
+		Map<String, Integer> ids = new HashMap<>();
+		List<byte[]> strings = new ArrayList<>();
+		int columns = 0;
+		for (List<String> row : rows) {
+			columns = Math.max(columns, row.size());
+			for (String cell : row) {
+				ids.computeIfAbsent(cell, value -> {
+					strings.add(value.getBytes(StandardCharsets.UTF_8));
+					return strings.size() - 1;
+				});
+			}
+		}
+
+		Path snapshot = snapshotPath(source, sheetName);
+		Path temp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(size);
+				out.writeLong(lastModified);
+				out.write(sha256);
+				byte[] name = sheetName.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(name.length);
+				out.write(name);
+				out.writeInt(rows.size());
+				out.writeInt(columns);
+				out.writeInt(strings.size());
+				int offset = 0;
+				for (byte[] string : strings) {
+					out.writeInt(offset);
+					offset = Math.addExact(offset, string.length);
+				}
+				out.writeInt(offset);
+				for (byte[] string : strings) {
+					out.write(string);
+				}
+				for (List<String> row : rows) {
+					out.writeInt(row.size());
+				}
+				for (int column = 0; column < columns; column++) {
+					for (List<String> row : rows) {
+						out.writeInt(column < row.size() ? ids.get(row.get(column)) : -1);
+					}
+				}
+			}
+			try {
+				Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+			}
+			logger.info("Compiled sheet {} of {} into snapshot {} ({} row(s), {} distinct value(s))", sheetName,
+					source, snapshot, rows.size(), strings.size());
+		} catch (ArithmeticException e) {
+			throw new IOException("Sheet " + sheetName + " of " + source + " is too large for a snapshot", e);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static boolean matchesSource(Path source, long size, long lastModified, byte[] sha256)
+			throws IOException {
+		if (!Files.isRegularFile(source) || Files.size(source) != size) {
+			return false;
+		}
+		return Files.getLastModifiedTime(source).toMillis() == lastModified
+				|| MessageDigest.isEqual(sha256, sha256(source));
+	}
+
+	private static byte[] sha256(Path source) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+		byte[] chunk = new byte[64 * 1024];
+		try (InputStream in = Files.newInputStream(source)) {
+			for (int read = in.read(chunk); read != -1; read = in.read(chunk)) {
+				digest.update(chunk, 0, read);
+			}
+		}
+		return digest.digest();
+	}
+
+	private static Path snapshotPath(Path source, String sheetName) {
+		String safeName = sheetName.replaceAll("[^A-Za-z0-9._-]", "_");
+		return source.resolveSibling(source.getFileName() + "." + safeName + EXTENSION);
+	}
+
+	/** Read-only rows backed by the mapped snapshot; strings are decoded once, on first use. */
+	private static final class SnapshotRows extends AbstractList<List<String>> implements RandomAccess {
+		private final ByteBuffer data;
+		private final int rowCount;
+		private final int columnCount;
+		private final int offsetsStart;
+		private final int bytesStart;
+		private final int rowLengthsStart;
+		private final int cellsStart;
+		private final String[] decoded;
+
+		private SnapshotRows(ByteBuffer data) {
+			this.data = data;
+			this.rowCount = data.getInt(0);
+			this.columnCount = data.getInt(4);
+			int stringCount = data.getInt(8);
+			this.offsetsStart = 12;
+			this.bytesStart = offsetsStart + 4 * (stringCount + 1);
+			this.rowLengthsStart = bytesStart + data.getInt(offsetsStart + 4 * stringCount);
+			this.cellsStart = rowLengthsStart + 4 * rowCount;
+			this.decoded = new String[stringCount];
+			if ((long) cellsStart + 4L * rowCount * columnCount != data.limit()) {
+				throw new IllegalStateException("Snapshot is truncated or corrupt");
+			}
+		}
+
+		@Override
+		public List<String> get(int row) {
+			if (row < 0 || row >= rowCount) {
+				throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+			}
+			String[] cells = new String[data.getInt(rowLengthsStart + 4 * row)];
+			for (int column = 0; column < cells.length; column++) {
+				cells[column] = string(data.getInt(cellsStart + 4 * (column * rowCount + row)));
+			}
+			return Collections.unmodifiableList(Arrays.asList(cells));
+		}
+
+		@Override
+		public int size() {
+			return rowCount;
+		}
+
+		private String string(int id) {
+			String value = decoded[id];
+			if (value == null) {
+				int start = data.getInt(offsetsStart + 4 * id);
+				byte[] bytes = new byte[data.getInt(offsetsStart + 4 * (id + 1)) - start];
+				ByteBuffer view = data.duplicate();
+				view.position(bytesStart + start);
+				view.get(bytes);
+				value = new String(bytes, StandardCharsets.UTF_8);
+				decoded[id] = value;
+			}
+			return value;
+		}
+	}
+}
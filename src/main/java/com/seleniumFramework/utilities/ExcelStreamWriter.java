@@ -0,0 +1,242 @@
+package com.seleniumFramework.utilities;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Streaming writer for large exports to one sheet of an .xlsx workbook.
+ *
+ * Built on POI's {@link SXSSFWorkbook}: only the last
+ * {@link Config#EXCEL_WRITE_WINDOW_ROWS} rows are kept in memory and older rows
+ * are flushed to a compressed temp file, so heap use does not grow with the
+ * number of rows written. When the workbook already exists it is used as a
+ * template: existing sheets and rows are kept as they are and new rows are
+ * appended after the last existing row of the sheet.
+ *
+ * {@link #close()} saves the workbook to a temp file next to the target and
+ * renames it over the target, so readers never see a half-written file and a
+ * failed save leaves the previous file intact.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelStreamWriter implements Closeable {
+
+	private static final Logger logger = LogManager.getLogger(ExcelStreamWriter.class);
+
+	private final Path target;
+	private final String sheetName;
+	private final SXSSFWorkbook workbook;
+	private final Sheet sheet;
+	private CellStyle dateStyle;
+	private int nextRow;
+	private int rowsWritten;
+	private boolean closed;
+
+	private ExcelStreamWriter(Path target, String sheetName, int windowRows) throws IOException {
+		this.target = target;
+		this.sheetName = sheetName;
+		XSSFWorkbook template;
+		if (Files.isRegularFile(target)) {
+			// read from a stream so that the file is not held open when it is replaced on save
+			try (InputStream in = Files.newInputStream(target)) {
+				template = new XSSFWorkbook(in);
+			}
+			XSSFSheet existing = template.getSheet(sheetName);
+			if (existing != null && existing.getPhysicalNumberOfRows() > 0) {
+				nextRow = existing.getLastRowNum() + 1;
+			}
+		} else {
+			template = new XSSFWorkbook();
+		}
+		this.workbook = new SXSSFWorkbook(template, windowRows, true);
+		Sheet streamed = workbook.getSheet(sheetName);
+		this.sheet = streamed != null ? streamed : workbook.createSheet(sheetName);
+		logger.info("Opened sheet {} of {} for streaming writes from row {} (window of {} rows)", sheetName, target,
+				nextRow, windowRows);
+	}
+
+	/********************************************************************************************
+	 * Opens a sheet for streaming writes with the default window of
+	 * {@link Config#EXCEL_WRITE_WINDOW_ROWS} rows. The workbook and the sheet are
+	 * created if they do not exist; otherwise rows are appended to the sheet.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet to write to
+	 * @return the writer
+	 * @throws IOException if an existing workbook cannot be read
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ExcelStreamWriter open(String filePath, String sheetName) throws IOException {
+		return open(filePath, sheetName, Config.EXCEL_WRITE_WINDOW_ROWS);
+	}
+
+	/********************************************************************************************
+	 * Opens a sheet for streaming writes.
+	 *
+	 * @param filePath   the path of the Excel file
+	 * @param sheetName  the name of the sheet to write to
+	 * @param windowRows the number of most recent rows kept in memory
+	 * @return the writer
+	 * @throws IOException if an existing workbook cannot be read
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ExcelStreamWriter open(String filePath, String sheetName, int windowRows) throws IOException {
+		if (windowRows < 1) {
+			throw new IllegalArgumentException("The row window must hold at least one row, was " + windowRows);
+		}
+		return new ExcelStreamWriter(Paths.get(filePath).toAbsolutePath().normalize(), sheetName, windowRows);
+	}
+
+	/********************************************************************************************
+	 * Appends a row. Numbers, booleans and dates (Date, LocalDate,
+	 * LocalDateTime) are written as typed cells, null as an empty cell and
+	 * anything else as text.
+	 *
+	 * @param values the cell values of the row
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void writeRow(List<?> values) {
+		if (closed) {
+			throw new IllegalStateException("Writer for sheet " + sheetName + " of " + target + " is closed");
+		}
+		Row row = sheet.createRow(nextRow++);
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.get(i);
+			if (value != null) {
+				setCellValue(row.createCell(i), value);
+			}
+		}
+		rowsWritten++;
+	}
+
+	/********************************************************************************************
+	 * Appends rows in order.
+	 *
+	 * @param rows the rows to append, each a list of cell values
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void writeRows(Iterable<? extends List<?>> rows) {
+		for (List<?> row : rows) {
+			writeRow(row);
+		}
+	}
+
+	/** Number of rows appended through this writer. */
+	public int getRowsWritten() {
+		return rowsWritten;
+	}
+
+	/********************************************************************************************
+	 * Saves the workbook atomically and releases its temp files.
+	 *
+	 * @throws IOException if the workbook cannot be saved; the previous file is
+	 *                     then left unchanged
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			saveAtomically(workbook, target);
+			logger.info("Wrote {} row(s) to sheet {} of {}", rowsWritten, sheetName, target);
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+
+	/********************************************************************************************
+	 * Writes a workbook to a temp file in the target's directory and renames it
+	 * over the target.
+	 *
+	 * @param workbook the workbook to save
+	 * @param target   the file to replace
+	 * @throws IOException if the workbook cannot be written or renamed
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static void saveAtomically(Workbook workbook, Path target) throws IOException {
+		Path directory = target.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				workbook.write(out);
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private void setCellValue(Cell cell, Object value) {
+		if (value instanceof Number) {
+			cell.setCellValue(((Number) value).doubleValue());
+		} else if (value instanceof Boolean) {
+			cell.setCellValue((Boolean) value);
+		} else if (value instanceof Date) {
+			cell.setCellValue((Date) value);
+			cell.setCellStyle(dateStyle());
+		} else if (value instanceof LocalDateTime) {
+			cell.setCellValue((LocalDateTime) value);
+			cell.setCellStyle(dateStyle());
+		} else if (value instanceof LocalDate) {
+			cell.setCellValue((LocalDate) value);
+			cell.setCellStyle(dateStyle());
+		} else {
+			cell.setCellValue(value.toString());
+		}
+	}
+
+	private CellStyle dateStyle() {
+		if (dateStyle == null) {
+			dateStyle = workbook.createCellStyle();
+			dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+		}
+		return dateStyle;
+	}
+}
@@ -0,0 +1,342 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Typed, header-aware contents of an Excel sheet.
+ *
+ * The first row of the sheet is the header: it is read once and each header
+ * maps to its column index, so data rows never carry it. Cells are stored per
+ * column in primitive arrays (numbers, dates and booleans as doubles, text as
+ * strings, plus one type byte per cell), so nothing is boxed. Formulas are
+ * stored as the value Excel cached for them rather than their text.
+ *
+ * Rows are handed out as {@link ExcelRecord} views that only hold the table
+ * and a row index; columns are looked up by header name in constant time and
+ * no per-row map is built.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ExcelTable implements Iterable<ExcelRecord> {
+
+	private static final Logger logger = LogManager.getLogger(ExcelTable.class);
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The type of a stored cell. */
+	public enum CellKind {
+		BLANK, STRING, NUMBER, DATE, BOOLEAN
+	}
+
+	private static final CellKind[] KINDS = CellKind.values();
+
+	private final String filePath;
+	private final String sheetName;
+	private final boolean date1904;
+	private final List<String> headers;
+	private final Map<String, Integer> columnIndexes;
+	private final Column[] columns;
+	private final int rowCount;
+
+	private ExcelTable(String filePath, String sheetName, boolean date1904, List<String> headers, Column[] columns,
+			int rowCount) {
+		this.filePath = filePath;
+		this.sheetName = sheetName;
+		this.date1904 = date1904;
+		this.headers = Collections.unmodifiableList(headers);
+		this.columns = columns;
+		this.rowCount = rowCount;
+		this.columnIndexes = new HashMap<>();
+		for (int i = 0; i < headers.size(); i++) {
+			String header = headers.get(i);
+			if (header.isEmpty()) {
+				continue;
+			}
+			if (columnIndexes.putIfAbsent(header, i) != null) {
+				logger.warn("Duplicate header {} in sheet {} of {}; using the first column", header, sheetName,
+						filePath);
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Reads a sheet whose first row holds the column headers.
+	 *
+	 * @param filePath  the path of the Excel file
+	 * @param sheetName the name of the sheet
+	 * @return the typed contents of the sheet
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the sheet does not exist
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ExcelTable read(String filePath, String sheetName) throws IOException {
+		try (ExcelSheetReader reader = ExcelSheetReader.open(filePath, sheetName)) {
+			HeaderCollector header = new HeaderCollector();
+			reader.nextRow(header);
+			RowCollector rows = new RowCollector(header.names.size());
+			while (reader.nextRow(rows)) {
+				rows.rowCount++;
+			}
+			logger.info("Read {} typed row(s) with {} header(s) from sheet {} of {}", rows.rowCount,
+					header.names.size(), sheetName, filePath);
+			return new ExcelTable(filePath, sheetName, reader.isDate1904(), header.names,
+					rows.columns.toArray(new Column[0]), rows.rowCount);
+		}
+	}
+
+	/** The header names, in column order; blank for columns without a header. */
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	public boolean hasColumn(String header) {
+		return columnIndexes.containsKey(header);
+	}
+
+	/********************************************************************************************
+	 * Returns the column index of a header.
+	 *
+	 * @param header the header name
+	 * @return the zero-based column index
+	 * @throws IllegalArgumentException if the sheet has no such header
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public int columnIndex(String header) {
+		Integer index = columnIndexes.get(header);
+		if (index == null) {
+			throw new IllegalArgumentException(
+					"Sheet " + sheetName + " of " + filePath + " has no column " + header + "; headers are " + headers);
+		}
+		return index;
+	}
+
+	/** Number of data rows, not counting the header row. */
+	public int size() {
+		return rowCount;
+	}
+
+	/********************************************************************************************
+	 * Returns a data row.
+	 *
+	 * @param row the zero-based index of the data row (the header row excluded)
+	 * @return a view of the row
+	 * @throws IndexOutOfBoundsException if there is no such row
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public ExcelRecord getRecord(int row) {
+		if (row < 0 || row >= rowCount) {
+			throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount + " in sheet " + sheetName);
+		}
+		return new ExcelRecord(this, row);
+	}
+
+	/** All data rows as a list of record views. */
+	public List<ExcelRecord> getRecords() {
+		return new AbstractList<ExcelRecord>() {
+			@Override
+			public ExcelRecord get(int index) {
+				return getRecord(index);
+			}
+
+			@Override
+			public int size() {
+				return rowCount;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<ExcelRecord> iterator() {
+		return new Iterator<ExcelRecord>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < rowCount;
+			}
+
+			@Override
+			public ExcelRecord next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException("No more rows in sheet " + sheetName + " of " + filePath);
+				}
+				return new ExcelRecord(ExcelTable.this, next++);
+			}
+		};
+	}
+
+	String getSheetName() {
+		return sheetName;
+	}
+
+	/** Rough heap footprint, for the size limit of ExcelSheetCache. */
+	long estimatedBytes() {
+		long bytes = 64 + 64L * headers.size();
+		for (Column column : columns) {
+			bytes += 48 + column.kinds.length;
+			if (column.numbers != null) {
+				bytes += 8L * column.numbers.length;
+			}
+			if (column.strings != null) {
+				bytes += 8L * column.strings.length;
+				for (String value : column.strings) {
+					bytes += value == null ? 0 : 40 + value.length();
+				}
+			}
+		}
+		return bytes;
+	}
+
+	boolean isDate1904() {
+		return date1904;
+	}
+
+	CellKind kind(int column, int row) {
+		if (column >= columns.length || row >= columns[column].kinds.length) {
+			return CellKind.BLANK;
+		}
+		return KINDS[columns[column].kinds[row]];
+	}
+
+	double number(int column, int row) {
+		return columns[column].numbers[row];
+	}
+
+	String string(int column, int row) {
+		return columns[column].strings[row];
+	}
+
+	/** Cells of one column; arrays grow with the rows and are allocated lazily per kind. */
+	private static final class Column {
+		private byte[] kinds = new byte[INITIAL_CAPACITY];
+		private double[] numbers;
+		private String[] strings;
+
+		private void ensureCapacity(int row) {
+			if (row >= kinds.length) {
+				int capacity = Math.max(row + 1, kinds.length * 2);
+				kinds = Arrays.copyOf(kinds, capacity);
+				if (numbers != null) {
+					numbers = Arrays.copyOf(numbers, capacity);
+				}
+				if (strings != null) {
+					strings = Arrays.copyOf(strings, capacity);
+				}
+			}
+		}
+
+		private void setNumber(int row, CellKind kind, double value) {
+			ensureCapacity(row);
+			if (numbers == null) {
+				numbers = new double[kinds.length];
+			}
+			kinds[row] = (byte) kind.ordinal();
+			numbers[row] = value;
+		}
+
+		private void setString(int row, String value) {
+			ensureCapacity(row);
+			if (strings == null) {
+				strings = new String[kinds.length];
+			}
+			kinds[row] = (byte) CellKind.STRING.ordinal();
+			strings[row] = value;
+		}
+	}
+
+	private static final class RowCollector implements ExcelSheetReader.CellHandler {
+		private final List<Column> columns = new ArrayList<>();
+		private int rowCount;
+
+		private RowCollector(int headerCount) {
+			column(headerCount - 1);
+		}
+
+		private Column column(int index) {
+			while (columns.size() <= index) {
+				columns.add(new Column());
+			}
+			return index < 0 ? null : columns.get(index);
+		}
+
+		@Override
+		public void string(int column, String value) {
+			column(column).setString(rowCount, value);
+		}
+
+		@Override
+		public void number(int column, double value) {
+			column(column).setNumber(rowCount, CellKind.NUMBER, value);
+		}
+
+		@Override
+		public void date(int column, double excelDate) {
+			column(column).setNumber(rowCount, CellKind.DATE, excelDate);
+		}
+
+		@Override
+		public void bool(int column, boolean value) {
+			column(column).setNumber(rowCount, CellKind.BOOLEAN, value ? 1 : 0);
+		}
+
+		@Override
+		public void blank(int column) {
+			column(column).ensureCapacity(rowCount);
+		}
+	}
+
+	private static final class HeaderCollector implements ExcelSheetReader.CellHandler {
+		private final List<String> names = new ArrayList<>();
+
+		private void set(int column, String name) {
+			while (names.size() <= column) {
+				names.add("");
+			}
+			names.set(column, name.trim());
+		}
+
+		@Override
+		public void string(int column, String value) {
+			set(column, value);
+		}
+
+		@Override
+		public void number(int column, double value) {
+			set(column, ExcelRecord.formatNumber(value));
+		}
+
+		@Override
+		public void date(int column, double excelDate) {
+			set(column, ExcelRecord.formatNumber(excelDate));
+		}
+
+		@Override
+		public void bool(int column, boolean value) {
+			set(column, Boolean.toString(value));
+		}
+
+		@Override
+		public void blank(int column) {
+			set(column, "");
+		}
+	}
+}
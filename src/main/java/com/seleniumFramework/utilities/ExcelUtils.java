@@ -3,9 +3,10 @@ package com.seleniumFramework.utilities;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -16,38 +17,63 @@ public class ExcelUtils {
 
 	private static final Logger logger = LogManager.getLogger(ExcelUtils.class);
 	private String filePath;
+	// only loaded once data is written; reads stream the file instead
 	private Workbook workbook;
 
 	/********************************************************************************************
-	 * Constructor to initialize the ExcelUtility with the file path.
+	 * Constructor to initialize the ExcelUtility with the file path. The workbook
+	 * is not parsed here: reads stream the sheet and the workbook object model is
+	 * only loaded on the first write.
 	 *
 	 * @param filePath the path of the Excel file to be read or written
 	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
 	public ExcelUtils(String filePath) {
 		this.filePath = filePath;
-		try (FileInputStream fileInputStream = new FileInputStream(filePath)) {
-			this.workbook = new XSSFWorkbook(fileInputStream);
+		if (new File(filePath).isFile()) {
 			logger.info("Initialized ExcelUtility with file: {}", filePath);
-		} catch (IOException e) {
-			logger.error("Failed to initialize ExcelUtility for file {}: {}", filePath, e.getMessage(), e);
+		} else {
+			logger.error("Failed to initialize ExcelUtility for file {}: file does not exist", filePath);
+		}
+	}
+
+	private Workbook getWorkbook() throws IOException {
+		if (workbook == null) {
+			try (FileInputStream fileInputStream = new FileInputStream(filePath)) {
+				workbook = new XSSFWorkbook(fileInputStream);
+				logger.info("Loaded workbook for writing: {}", filePath);
+			}
 		}
+		return workbook;
 	}
 
 	/********************************************************************************************
-	 * Reads data from the specified sheet in the Excel file.
+	 * Reads data from the specified sheet in the Excel file. The sheet comes from
+	 * the shared {@link ExcelSheetCache} unless the workbook has already been
+	 * loaded for writing, in which case unsaved changes are read from memory.
 	 *
 	 * @param sheetName the name of the sheet from which data is to be read
 	 * @return a list of rows, where each row is represented as a list of strings
 	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
 	public List<List<String>> readExcelData(String sheetName) {
 		List<List<String>> excelData = new ArrayList<>();
 
+		if (workbook == null) {
+			try {
+				for (List<String> row : ExcelSheetCache.getSheet(filePath, sheetName)) {
+					excelData.add(new ArrayList<>(row));
+				}
+				logger.info("Successfully read data from sheet: {}", sheetName);
+			} catch (Exception e) {
+				logger.error("Failed to read Excel data from sheet {}: {}", sheetName, e.getMessage(), e);
+			}
+			return excelData;
+		}
 		try {
 			Sheet sheet = workbook.getSheet(sheetName);
 			if (sheet == null) {
@@ -73,6 +99,32 @@ public class ExcelUtils {
 		return excelData;
 	}
 
+	/********************************************************************************************
+	 * Reads the specified sheet as typed records, with the first row as the
+	 * header. Unlike {@link #readExcelData(String)}, numbers, dates and booleans
+	 * keep their type, formulas yield their cached values, and the header row is
+	 * not part of the data.
+	 *
+	 * @param sheetName the name of the sheet from which data is to be read
+	 * @return the typed contents of the sheet, or null if it cannot be read
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public ExcelTable readExcelTable(String sheetName) {
+		if (workbook != null) {
+			logger.info("Reading sheet {} from {} on disk; unsaved changes are not included", sheetName, filePath);
+		}
+		try {
+			ExcelTable table = ExcelSheetCache.getTable(filePath, sheetName);
+			logger.info("Successfully read typed data from sheet: {}", sheetName);
+			return table;
+		} catch (Exception e) {
+			logger.error("Failed to read Excel data from sheet {}: {}", sheetName, e.getMessage(), e);
+			return null;
+		}
+	}
+
 	/********************************************************************************************
 	 * Writes data to the specified sheet in the Excel file.If the sheet does not
 	 * exist, it creates a new one.
@@ -86,6 +138,7 @@ public class ExcelUtils {
 	 ********************************************************************************************/
 	public void writeExcelData(String sheetName, List<List<String>> data) {
 		try {
+			Workbook workbook = getWorkbook();
 			Sheet sheet = workbook.getSheet(sheetName);
 			if (sheet == null) {
 				sheet = workbook.createSheet(sheetName);
@@ -107,15 +160,83 @@ public class ExcelUtils {
 	}
 
 	/********************************************************************************************
-	 * Saves changes made to the workbook back to the file.
+	 * Appends rows to the specified sheet through an {@link ExcelStreamWriter},
+	 * keeping only a small window of rows in memory, and saves the file
+	 * atomically. Use this instead of {@link #writeExcelData(String, List)} for
+	 * large exports. Pending changes from writeExcelData are saved first.
+	 *
+	 * @param sheetName the name of the sheet to append to; created if missing
+	 * @param data      the rows to append, each a list of cell values
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void appendExcelData(String sheetName, Iterable<? extends List<?>> data) {
+		try (ExcelStreamWriter writer = openStreamWriter(sheetName)) {
+			writer.writeRows(data);
+		} catch (Exception e) {
+			logger.error("Failed to append Excel data to sheet {}: {}", sheetName, e.getMessage(), e);
+		}
+	}
+
+	/********************************************************************************************
+	 * Opens the specified sheet for streaming writes, for exports that produce
+	 * rows incrementally. Pending changes from writeExcelData are saved first;
+	 * closing the writer saves the file.
+	 *
+	 * @param sheetName the name of the sheet to append to; created if missing
+	 * @return the writer, which must be closed
+	 * @throws IOException if the workbook cannot be read
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public ExcelStreamWriter openStreamWriter(String sheetName) throws IOException {
+		if (workbook != null) {
+			// the streaming writer works on the file; reload the object model on the next write
+			saveChanges();
+			workbook.close();
+			workbook = null;
+		}
+		return ExcelStreamWriter.open(filePath, sheetName);
+	}
+
+	/********************************************************************************************
+	 * Compiles the specified sheets into binary snapshots next to the Excel file,
+	 * so later reads skip parsing the workbook until it changes. See
+	 * {@link ExcelSnapshot}.
+	 *
+	 * @param sheetNames the names of the sheets to compile
+	 * 
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void compileSnapshots(String... sheetNames) {
+		for (String sheetName : sheetNames) {
+			try {
+				ExcelSnapshot.compile(filePath, sheetName);
+			} catch (Exception e) {
+				logger.error("Failed to compile snapshot of sheet {}: {}", sheetName, e.getMessage(), e);
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Saves changes made to the workbook back to the file. The workbook is
+	 * written to a temp file first and renamed over the original, so a failed
+	 * save leaves the file intact.
 	 * 
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
 
 	public void saveChanges() {
-		try (FileOutputStream fileOutputStream = new FileOutputStream(filePath)) {
-			workbook.write(fileOutputStream);
+		if (workbook == null) {
+			logger.info("No changes to save to Excel file: {}", filePath);
+			return;
+		}
+		try {
+			ExcelStreamWriter.saveAtomically(workbook, Paths.get(filePath));
 			logger.info("Successfully saved changes to Excel file: {}", filePath);
 		} catch (IOException e) {
 			logger.error("Failed to save changes to Excel file {}: {}", filePath, e.getMessage(), e);
@@ -3,49 +3,77 @@ package com.seleniumFramework.utilities;
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.seleniumFramework.common.BaseClass;
-
+import com.seleniumFramework.common.Config;
+
+/**
+ * TestNG listener that builds the Extent report.
+ *
+ * Test threads never call ExtentReports directly: every report update goes
+ * through a {@link ReportNode}, which queues it on the
+ * {@link ReportEventQueue} for the single reporter thread. {@link #onFinish}
+ * waits until all queued updates have been applied before the report is
+ * flushed.
+ *
+ * The report is a {@link RollingExtentReport}: it is flushed as tests complete
+ * and on a timer while the suite runs, and split into several files for long
+ * suites, so a crashed run still leaves a report and memory use stays flat.
+ *
+ * @author Abhijeet Maske
+ * @version 1.2 October 18, 2026
+ */
 public class ExtentReportListener implements ITestListener {
 
-	private static ExtentReports extentReport;
-	private static ThreadLocal<ExtentTest> testThreadLocal = new ThreadLocal<>();
+	// only read and written on the reporter thread
+	private static RollingExtentReport report;
+	private static ThreadLocal<ReportNode> testThreadLocal = new ThreadLocal<>();
 	private static final Logger logger = LogManager.getLogger(ExtentReportListener.class);
 	private static final String REPORT_PATH = System.getProperty("user.dir") + "/extentReports/";
-	private static final String REPORT_NAME = "ExtentReport_" + DateTimeUtils.getCurrentDateTime() + ".html";
+	private static final String REPORT_NAME = "ExtentReport_" + DateTimeUtils.getCurrentDateTime();
+	private static ScheduledExecutorService flushTimer;
+	private static final String FAILURE_SCREENSHOT = "extentReport.failureScreenshot";
+	private static final String FAILURE_STEPS = "extentReport.failureSteps";
 
 	@Override
 	public void onStart(ITestContext context) {
 		logger.info("Starting Test Suite: {}", context.getName());
-		extentReport = new ExtentReports();
-		ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_PATH + REPORT_NAME);
-
-		sparkReporter.config().setTheme(Theme.STANDARD);
-		sparkReporter.config().setDocumentTitle("Automation Test Report");
-		sparkReporter.config().setReportName("Test Execution Report");
-		extentReport.attachReporter(sparkReporter);
-
-		logger.info("ExtentReport initialized with SparkReporter");
+		ReportEventQueue.submit(() -> {
+			if (report == null) {
+				report = new RollingExtentReport(REPORT_PATH, REPORT_NAME);
+			}
+		});
+		startFlushTimer();
 	}
 
 	@Override
 	public void onFinish(ITestContext context) {
 		logger.info("Finishing Test Suite: {}", context.getName());
-		extentReport.flush();
+		ScreenshotService.awaitWrites(Config.REPORT_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		logger.info(ScreenshotService.stats());
+		logger.info(StepCapture.stats());
+		String[] reportFile = new String[1];
+		ReportEventQueue.drainAndRun(() -> reportFile[0] = report.finish(), Config.REPORT_DRAIN_TIMEOUT_SECONDS,
+				TimeUnit.SECONDS);
+		logger.info(ReportEventQueue.stats());
+		if (reportFile[0] == null) {
+			return;
+		}
 		try {
-			Desktop.getDesktop().browse(new File(REPORT_PATH + REPORT_NAME).toURI());
-			logger.info("Test report opened in browser: {}", REPORT_PATH + REPORT_NAME);
+			Desktop.getDesktop().browse(new File(reportFile[0]).toURI());
+			logger.info("Test report opened in browser: {}", reportFile[0]);
 		} catch (IOException e) {
 			logger.error("Error opening test report in browser: {}", e.getMessage(), e);
 		}
@@ -54,59 +82,106 @@ public class ExtentReportListener implements ITestListener {
 	@Override
 	public void onTestStart(ITestResult result) {
 		logger.info("Starting Test: {}", result.getMethod().getMethodName());
+		ScreenshotService.startTest(result.getMethod().getMethodName());
 	}
 
 	@Override
 	public void onTestSuccess(ITestResult result) {
 		logger.info("Test Passed: {}", result.getMethod().getMethodName());
+		completeTest();
 	}
 
 	@Override
 	public void onTestFailure(ITestResult result) {
 		String methodName = result.getMethod().getMethodName();
 		logger.error("Test Failed: {}", methodName);
-		String screenshotPath = null;
-
 		try {
-			screenshotPath = UtilMethods.captureScreenShot(BaseClass.getDriver(), methodName);
-			logger.info("Screenshot captured for failed test: {}", methodName);
-		} catch (IOException e) {
-			logger.error("Error capturing screenshot for failed test: {}", methodName, e);
+			// BaseClass captures the failure before @AfterMethod returns the driver to the pool
+			if (result.getAttribute(FAILURE_STEPS) == null) {
+				captureFailure(result, BaseClass.getDriver());
+			}
+			ReportNode currentTest = testThreadLocal.get();
+			if (currentTest == null) {
+				return;
+			}
+			@SuppressWarnings("unchecked")
+			List<ScreenshotService.Capture> steps = (List<ScreenshotService.Capture>) result
+					.getAttribute(FAILURE_STEPS);
+			for (ScreenshotService.Capture step : steps) {
+				currentTest.log(Status.INFO, "Step before failure: ", step.getPath());
+			}
+			currentTest.log(Status.FAIL, "Test failed: " + result.getThrowable());
+			String screenshotPath = (String) result.getAttribute(FAILURE_SCREENSHOT);
+			if (screenshotPath != null) {
+				currentTest.log(Status.FAIL, "Test Failed: ", screenshotPath);
+			}
+		} finally {
+			completeTest();
 		}
+	}
 
-		testThreadLocal.get().log(Status.FAIL, "Test failed: " + result.getThrowable());
+	/********************************************************************************************
+	 * Saves the step screenshots held for the failed test and takes the failure
+	 * screenshot, for {@link #onTestFailure} to attach to the report. Must be
+	 * called on the test's thread while the driver still shows the page the test
+	 * failed on; TestNG runs {@code @AfterMethod} before the listener, so
+	 * BaseClass calls this before it releases the driver. Never throws: a
+	 * missing screenshot must not lose the failure from the report.
+	 *
+	 * @param result the failed test
+	 * @param driver the test's driver, or null if it has none
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void captureFailure(ITestResult result, WebDriver driver) {
+		String methodName = result.getMethod().getMethodName();
+		List<ScreenshotService.Capture> steps = Collections.emptyList();
 		try {
-			testThreadLocal.get().log(Status.FAIL, "Test Failed: ",
-					MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
-		} catch (Exception e) {
-			logger.error("Error attaching screenshot to Extent report: {}", e.getMessage(), e);
+			// the last steps before the failure, held in memory until now
+			steps = StepCapture.saveRecentSteps();
+			if (driver == null) {
+				logger.warn("No driver bound to failed test {}; no screenshot taken", methodName);
+			} else {
+				// the file is written in the background; the report only links to it
+				result.setAttribute(FAILURE_SCREENSHOT, ScreenshotService.capture(driver, "failure").getPath());
+				logger.info("Screenshot captured for failed test: {}", methodName);
+			}
+		} catch (RuntimeException e) {
+			logger.error("Error capturing screenshot for failed test: {}", methodName, e);
+		} finally {
+			result.setAttribute(FAILURE_STEPS, steps);
 		}
 	}
 
 	@Override
 	public void onTestSkipped(ITestResult result) {
 		logger.warn("Test Skipped: {}", result.getMethod().getMethodName());
-		testThreadLocal.get().log(Status.SKIP, "Test skipped: " + result.getThrowable());
+		ReportNode currentTest = testThreadLocal.get();
+		if (currentTest != null) {
+			currentTest.log(Status.SKIP, "Test skipped: " + result.getThrowable());
+		}
+		completeTest();
 	}
 
-	public static ExtentTest getCurrentTest() {
+	public static ReportNode getCurrentTest() {
 		return testThreadLocal.get();
 	}
 
-	public static ExtentTest createParentTest(String name, String description) {
-		ExtentTest parentTest = extentReport.createTest(name, description);
+	public static ReportNode createParentTest(String name, String description) {
+		ReportNode parentTest = ReportNode.createTest(() -> report, name, description);
 		testThreadLocal.set(parentTest);
 		return parentTest;
 	}
 
-	public static ExtentTest createChildTest(String name) {
-		ExtentTest childTest = getCurrentTest().createNode(name);
+	public static ReportNode createChildTest(String name) {
+		ReportNode childTest = getCurrentTest().createNode(name);
 		testThreadLocal.set(childTest);
 		return childTest;
 	}
 
 	public static void tags(String... tags) {
-		ExtentTest currentTest = testThreadLocal.get();
+		ReportNode currentTest = testThreadLocal.get();
 		if (currentTest != null) {
 			for (String tag : tags) {
 				currentTest.assignCategory(tag.toLowerCase());
@@ -115,9 +190,36 @@ public class ExtentReportListener implements ITestListener {
 	}
 
 	public static void author(String... authors) {
-		ExtentTest currentTest = testThreadLocal.get();
+		ReportNode currentTest = testThreadLocal.get();
 		if (currentTest != null) {
 			currentTest.assignAuthor(authors);
 		}
 	}
-}
\ No newline at end of file
+
+	private static void completeTest() {
+		StepCapture.endTest();
+		ScreenshotService.endTest();
+		ReportNode currentTest = testThreadLocal.get();
+		if (currentTest != null) {
+			currentTest.complete();
+			testThreadLocal.remove();
+		}
+	}
+
+	private static synchronized void startFlushTimer() {
+		if (flushTimer != null) {
+			return;
+		}
+		flushTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "extent-flush-timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// the flush itself runs on the reporter thread, after the updates queued before it
+		flushTimer.scheduleWithFixedDelay(() -> ReportEventQueue.submit(() -> {
+			if (report != null) {
+				report.flushIfDue();
+			}
+		}), Config.REPORT_FLUSH_INTERVAL_SECONDS, Config.REPORT_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+	}
+}
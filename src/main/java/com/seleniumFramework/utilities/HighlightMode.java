@@ -0,0 +1,63 @@
+package com.seleniumFramework.utilities;
+
+/**
+ * Element highlighting modes selectable through the {@code highlightMode}
+ * suite parameter, system property or config.properties entry.
+ *
+ * <ul>
+ * <li>{@code off} - no highlighting at all, no browser roundtrip; meant for
+ * CI</li>
+ * <li>{@code async} - the highlight is applied and removed by a single
+ * fire-and-forget script, the test does not wait for it (default)</li>
+ * <li>{@code screenshot-only} - the highlight is applied without waiting and
+ * left in place for the step screenshot; it stays on the live page until the
+ * next highlight restores the element</li>
+ * </ul>
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public enum HighlightMode {
+
+	OFF("off"), ASYNC("async"), SCREENSHOT_ONLY("screenshot-only");
+
+	private final String modeName;
+
+	HighlightMode(String modeName) {
+		this.modeName = modeName;
+	}
+
+	public String getModeName() {
+		return modeName;
+	}
+
+	/********************************************************************************************
+	 * Looks up a highlight mode by its name as used in suite XML and
+	 * config.properties.
+	 *
+	 * @param name the mode name, e.g. screenshot-only; null or blank selects
+	 *             async
+	 * @return the matching mode
+	 * @throws IllegalArgumentException if no mode has the given name
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static HighlightMode fromName(String name) {
+		if (name == null || name.trim().isEmpty()) {
+			return ASYNC;
+		}
+		for (HighlightMode mode : values()) {
+			if (mode.modeName.equalsIgnoreCase(name.trim())) {
+				return mode;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported highlight mode: " + name);
+	}
+
+	@Override
+	public String toString() {
+		return modeName;
+	}
+}
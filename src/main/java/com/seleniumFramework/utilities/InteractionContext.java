@@ -0,0 +1,102 @@
+package com.seleniumFramework.utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.Actions;
+
+import com.seleniumFramework.common.BaseClass;
+
+/**
+ * The WebDriver and Actions used by the static interaction helpers on the
+ * calling thread.
+ *
+ * The driver is the one leased to the current test through
+ * {@link BaseClass#getDriver()}; code running outside of BaseClass can
+ * {@link #bind(WebDriver)} a driver to its thread explicitly. Actions are
+ * created once per thread and driver instead of per call, and are rebuilt as
+ * soon as the thread is handed a different session, so parallel tests in one
+ * JVM never act on each other's browser. Waits go through SmartWait.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class InteractionContext {
+
+	private static final ThreadLocal<InteractionContext> contexts = new ThreadLocal<>();
+
+	private final WebDriver driver;
+	private Actions actions;
+
+	private InteractionContext(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/********************************************************************************************
+	 * Returns the context of the calling thread, following the thread's current
+	 * BaseClass driver.
+	 *
+	 * @return the interaction context
+	 * @throws IllegalStateException if no driver is available on this thread
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static InteractionContext current() {
+		WebDriver leased = BaseClass.getDriver();
+		InteractionContext context = contexts.get();
+		if (leased == null) {
+			if (context == null) {
+				throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+			}
+			return context;
+		}
+		if (context == null || context.driver != leased) {
+			context = new InteractionContext(leased);
+			contexts.set(context);
+		}
+		return context;
+	}
+
+	/********************************************************************************************
+	 * Binds a driver to the calling thread for code that does not lease its
+	 * driver through BaseClass. A driver leased through BaseClass still takes
+	 * precedence.
+	 *
+	 * @param driver the WebDriver to use on this thread
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void bind(WebDriver driver) {
+		InteractionContext context = contexts.get();
+		if (context == null || context.driver != driver) {
+			contexts.set(new InteractionContext(driver));
+		}
+	}
+
+	public static boolean isBound() {
+		return BaseClass.getDriver() != null || contexts.get() != null;
+	}
+
+	/********************************************************************************************
+	 * Forgets the calling thread's context, e.g. when its driver is returned to
+	 * the pool.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void clear() {
+		contexts.remove();
+	}
+
+	public WebDriver getDriver() {
+		return driver;
+	}
+
+	public Actions getActions() {
+		if (actions == null) {
+			actions = new Actions(driver);
+		}
+		return actions;
+	}
+}
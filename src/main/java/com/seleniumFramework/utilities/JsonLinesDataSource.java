@@ -0,0 +1,364 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link DataSource} for JSON-lines files: one JSON object or array per line.
+ *
+ * For objects, the keys of the first object become the columns and are
+ * returned as the first row, so a JSON-lines file yields the same rows as a CSV
+ * file with a header line. Later objects are matched to the columns by key;
+ * missing keys give empty cells and unknown keys are ignored. Arrays are
+ * returned element by element. Strings are unescaped, numbers and booleans are
+ * returned as written, null as an empty cell and nested objects or arrays as
+ * their JSON text.
+ *
+ * The file is memory-mapped. While keys appear in the same order as in the
+ * first object, they are compared as raw bytes and never decoded.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class JsonLinesDataSource implements DataSource {
+
+	private static final Set<String> EXTENSIONS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList("jsonl", "ndjson")));
+
+	@Override
+	public Set<String> getExtensions() {
+		return EXTENSIONS;
+	}
+
+	@Override
+	public Iterator<Object[]> open(String filePath, String sheetName) throws IOException {
+		return new JsonLinesRowIterator(filePath);
+	}
+
+	private static final class JsonLinesRowIterator extends MappedRowIterator {
+		private List<String> columns;
+		private byte[][] columnBytes;
+		private Map<String, Integer> columnIndexes;
+		private Object[] pendingRow;
+		private final List<Object> elements = new ArrayList<>();
+
+		private JsonLinesRowIterator(String filePath) throws IOException {
+			super(filePath);
+		}
+
+		@Override
+		protected Object[] readRow() {
+			if (pendingRow != null) {
+				Object[] row = pendingRow;
+				pendingRow = null;
+				return row;
+			}
+			while (true) {
+				skipWhitespace();
+				if (position >= limit) {
+					return null;
+				}
+				lineNumber++;
+				byte first = buffer.get(position);
+				if (first == '\n') {
+					position++;
+					continue;
+				}
+				Object[] row;
+				if (first == '{') {
+					row = readObject();
+				} else if (first == '[') {
+					row = readArray();
+				} else {
+					throw malformed("Expected a JSON object or array");
+				}
+				skipWhitespace();
+				if (position < limit && buffer.get(position) != '\n') {
+					throw malformed("Unexpected content after JSON value");
+				}
+				position++;
+				return row;
+			}
+		}
+
+		private Object[] readObject() {
+			position++;
+			boolean header = columns == null;
+			if (header) {
+				columns = new ArrayList<>();
+			}
+			Object[] row = header ? null : new Object[columns.size()];
+			List<Object> firstValues = header ? new ArrayList<>() : null;
+			int expected = 0;
+			skipWhitespace();
+			if (peek() == '}') {
+				position++;
+			} else {
+				while (true) {
+					skipWhitespace();
+					int column = header ? -1 : matchKey(expected);
+					String key = column < 0 ? readString() : null;
+					skipWhitespace();
+					expect(':');
+					skipWhitespace();
+					String value = readValue();
+					if (header) {
+						columns.add(key);
+						firstValues.add(value);
+					} else {
+						if (column < 0) {
+							Integer index = columnIndexes.get(key);
+							column = index == null ? -1 : index;
+						}
+						if (column >= 0) {
+							row[column] = value;
+							expected = column + 1;
+						}
+					}
+					skipWhitespace();
+					byte next = peek();
+					position++;
+					if (next == '}') {
+						break;
+					}
+					if (next != ',') {
+						throw malformed("Expected ',' or '}'");
+					}
+				}
+			}
+			if (header) {
+				indexColumns();
+				pendingRow = firstValues.toArray();
+				return columns.toArray();
+			}
+			for (int i = 0; i < row.length; i++) {
+				if (row[i] == null) {
+					row[i] = "";
+				}
+			}
+			return row;
+		}
+
+		private Object[] readArray() {
+			position++;
+			elements.clear();
+			skipWhitespace();
+			if (peek() == ']') {
+				position++;
+				return new Object[0];
+			}
+			while (true) {
+				skipWhitespace();
+				elements.add(readValue());
+				skipWhitespace();
+				byte next = peek();
+				position++;
+				if (next == ']') {
+					return elements.toArray();
+				}
+				if (next != ',') {
+					throw malformed("Expected ',' or ']'");
+				}
+			}
+		}
+
+		private void indexColumns() {
+			columnBytes = new byte[columns.size()][];
+			columnIndexes = new HashMap<>();
+			for (int i = 0; i < columns.size(); i++) {
+				columnBytes[i] = columns.get(i).getBytes(StandardCharsets.UTF_8);
+				columnIndexes.putIfAbsent(columns.get(i), i);
+			}
+		}
+
+		/** Consumes the key if it is the expected column, compared byte for byte, and returns its index. */
+		private int matchKey(int expected) {
+			if (expected >= columnBytes.length || peek() != '"') {
+				return -1;
+			}
+			byte[] key = columnBytes[expected];
+			int end = position + 1 + key.length;
+			if (end >= limit || buffer.get(end) != '"') {
+				return -1;
+			}
+			for (int i = 0; i < key.length; i++) {
+				byte value = buffer.get(position + 1 + i);
+				if (value != key[i]) {
+					return -1;
+				}
+			}
+			position = end + 1;
+			return expected;
+		}
+
+		private String readValue() {
+			byte first = peek();
+			switch (first) {
+			case '"':
+				return readString();
+			case '{':
+			case '[':
+				int start = position;
+				skipNested();
+				return decode(start, position);
+			default:
+				int literalStart = position;
+				while (position < limit) {
+					byte value = buffer.get(position);
+					if (value == ',' || value == '}' || value == ']' || isWhitespace(value)) {
+						break;
+					}
+					position++;
+				}
+				if (literalStart == position) {
+					throw malformed("Expected a JSON value");
+				}
+				String literal = decode(literalStart, position);
+				return "null".equals(literal) ? "" : literal;
+			}
+		}
+
+		private String readString() {
+			expect('"');
+			int start = position;
+			while (position < limit) {
+				byte value = buffer.get(position);
+				if (value == '"') {
+					String text = decode(start, position);
+					position++;
+					return text;
+				}
+				if (value == '\\') {
+					return readEscapedString(start);
+				}
+				if (value == '\n') {
+					break;
+				}
+				position++;
+			}
+			throw malformed("Unterminated string");
+		}
+
+		private String readEscapedString(int start) {
+			resetScratch();
+			appendToScratch(start, position);
+			StringBuilder text = null;
+			while (position < limit) {
+				byte value = buffer.get(position);
+				if (value == '"') {
+					position++;
+					return text == null ? scratchString() : text.append(scratchString()).toString();
+				}
+				if (value == '\n') {
+					break;
+				}
+				if (value != '\\') {
+					appendToScratch(value);
+					position++;
+					continue;
+				}
+				if (position + 1 >= limit) {
+					break;
+				}
+				byte escaped = buffer.get(position + 1);
+				position += 2;
+				switch (escaped) {
+				case '"':
+				case '\\':
+				case '/':
+					appendToScratch(escaped);
+					break;
+				case 'b':
+					appendToScratch((byte) '\b');
+					break;
+				case 'f':
+					appendToScratch((byte) '\f');
+					break;
+				case 'n':
+					appendToScratch((byte) '\n');
+					break;
+				case 'r':
+					appendToScratch((byte) '\r');
+					break;
+				case 't':
+					appendToScratch((byte) '\t');
+					break;
+				case 'u':
+					if (position + 4 > limit) {
+						throw malformed("Truncated unicode escape");
+					}
+					// surrogate pairs arrive as two escapes, so collect chars rather than bytes
+					text = (text == null ? new StringBuilder() : text).append(scratchString())
+							.append((char) Integer.parseInt(decode(position, position + 4), 16));
+					resetScratch();
+					position += 4;
+					break;
+				default:
+					throw malformed("Invalid escape \\" + (char) escaped);
+				}
+			}
+			throw malformed("Unterminated string");
+		}
+
+		private void skipNested() {
+			int depth = 0;
+			while (position < limit) {
+				byte value = buffer.get(position);
+				if (value == '"') {
+					readString();
+					continue;
+				}
+				position++;
+				if (value == '{' || value == '[') {
+					depth++;
+				} else if (value == '}' || value == ']') {
+					if (--depth == 0) {
+						return;
+					}
+				} else if (value == '\n') {
+					break;
+				}
+			}
+			throw malformed("Unterminated nested value");
+		}
+
+		/** Skips whitespace up to, but not past, the end of the line. */
+		private void skipWhitespace() {
+			while (position < limit) {
+				byte value = buffer.get(position);
+				if (!isWhitespace(value) || value == '\n') {
+					return;
+				}
+				position++;
+			}
+		}
+
+		private byte peek() {
+			if (position >= limit) {
+				throw malformed("Unexpected end of file");
+			}
+			return buffer.get(position);
+		}
+
+		private void expect(char expected) {
+			if (peek() != expected) {
+				throw malformed("Expected '" + expected + "'");
+			}
+			position++;
+		}
+
+		private static boolean isWhitespace(byte value) {
+			return value == ' ' || value == '\t' || value == '\r' || value == '\n';
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.seleniumFramework.utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+/**
+ * Per-driver, per-page cache of resolved WebElement handles.
+ *
+ * Elements are memoized by locator, so a repeated lookup costs no roundtrip at
+ * all. Cached handles are returned as proxies in the same way PageFactory does,
+ * and a proxy that runs into a {@link StaleElementReferenceException}
+ * (navigation, re-rendered element, reload) re-resolves its locator once and
+ * retries, so reuse is validated by the interaction itself rather than by an
+ * extra roundtrip. The navigation helpers of ElementInteractionUtils and the
+ * driver pool drop the page scope with {@link #invalidate()} when they leave a
+ * page, and the pool drops a session's cache with {@link #remove(WebDriver)}
+ * when it quits the session.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class LocatorCache {
+
+	private static final Logger logger = LogManager.getLogger(LocatorCache.class);
+	private static final Map<WebDriver, LocatorCache> caches = new ConcurrentHashMap<>();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong staleResolutions = new AtomicLong();
+
+	private final WebDriver driver;
+	private final Map<By, WebElement> elements = new HashMap<>();
+
+	private LocatorCache(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/********************************************************************************************
+	 * Returns the cache belonging to the given driver session.
+	 *
+	 * @param driver the WebDriver session
+	 * @return the session's locator cache
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static LocatorCache forDriver(WebDriver driver) {
+		return caches.computeIfAbsent(driver, LocatorCache::new);
+	}
+
+	/********************************************************************************************
+	 * Drops the cache of a driver session that is being quit, so neither the
+	 * driver nor its element handles outlive the session.
+	 *
+	 * @param driver the WebDriver session
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void remove(WebDriver driver) {
+		caches.remove(driver);
+	}
+
+	/********************************************************************************************
+	 * Finds an element on the current page, reusing the handle from an earlier
+	 * lookup of the same locator.
+	 *
+	 * @param locator the locator of the element
+	 * @return a self-healing handle of the element
+	 * @throws org.openqa.selenium.NoSuchElementException if the element is not on
+	 *                                                    the page
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public synchronized WebElement find(By locator) {
+		WebElement cached = elements.get(locator);
+		if (cached != null) {
+			hits.incrementAndGet();
+			return cached;
+		}
+		misses.incrementAndGet();
+		WebElement webElement = proxy(locator, driver.findElement(locator));
+		elements.put(locator, webElement);
+		return webElement;
+	}
+
+	/********************************************************************************************
+	 * Drops every cached handle of this driver, e.g. after a navigation or a
+	 * DOM-replacing action.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public synchronized void invalidate() {
+		elements.clear();
+	}
+
+	/********************************************************************************************
+	 * Summarises the hit, miss and stale re-resolution counters of all caches.
+	 *
+	 * @return the cache statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String stats() {
+		long hitCount = hits.get();
+		long lookups = hitCount + misses.get();
+		return String.format("Locator cache: %d lookup(s), %d hit(s) (%.1f%%), %d miss(es), %d stale re-resolution(s)",
+				lookups, hitCount, lookups == 0 ? 0.0 : hitCount * 100.0 / lookups, misses.get(),
+				staleResolutions.get());
+	}
+
+	private WebElement proxy(By locator, WebElement resolved) {
+		return (WebElement) Proxy.newProxyInstance(LocatorCache.class.getClassLoader(),
+				new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class, PageElements.Described.class },
+				new CachedElementHandler(locator, resolved));
+	}
+
+	/**
+	 * Delegates to the resolved element and re-resolves the locator once when
+	 * the element has gone stale.
+	 */
+	private final class CachedElementHandler implements InvocationHandler {
+		private final By locator;
+		private volatile WebElement element;
+
+		CachedElementHandler(By locator, WebElement element) {
+			this.locator = locator;
+			this.element = element;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ("getWrappedElement".equals(method.getName())) {
+				return element;
+			}
+			if (method.getDeclaringClass() == PageElements.Described.class) {
+				return locator.toString();
+			}
+			try {
+				return method.invoke(element, args);
+			} catch (InvocationTargetException e) {
+				if (!(e.getCause() instanceof StaleElementReferenceException)) {
+					throw e.getCause();
+				}
+				staleResolutions.incrementAndGet();
+				logger.info("Cached element went stale, re-resolving: {}", locator);
+				element = driver.findElement(locator);
+				try {
+					return method.invoke(element, args);
+				} catch (InvocationTargetException retryFailure) {
+					throw retryFailure.getCause();
+				}
+			}
+		}
+	}
+}
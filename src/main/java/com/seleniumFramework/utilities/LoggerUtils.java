@@ -81,4 +81,73 @@ public class LoggerUtils {
     public static void trace(String message) {
         logger.trace(message);
     }
+
+    /********************************************************************************************
+     * Logs a parameterized info message. The message is only formatted if INFO
+     * is enabled, so prefer this to concatenating the value into the message.
+     *
+     * @param message The message to be logged, with a {} placeholder.
+     * @param param   The value for the placeholder.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static void info(String message, Object param) {
+        logger.info(message, param);
+    }
+
+    /********************************************************************************************
+     * Logs a parameterized info message with two values.
+     *
+     * @param message The message to be logged, with two {} placeholders.
+     * @param param1  The value for the first placeholder.
+     * @param param2  The value for the second placeholder.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static void info(String message, Object param1, Object param2) {
+        logger.info(message, param1, param2);
+    }
+
+    /********************************************************************************************
+     * Logs a parameterized debug message. The message is only formatted if
+     * DEBUG is enabled.
+     *
+     * @param message The message to be logged, with a {} placeholder.
+     * @param param   The value for the placeholder.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static void debug(String message, Object param) {
+        logger.debug(message, param);
+    }
+
+    /********************************************************************************************
+     * Logs a parameterized debug message with two values.
+     *
+     * @param message The message to be logged, with two {} placeholders.
+     * @param param1  The value for the first placeholder.
+     * @param param2  The value for the second placeholder.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static void debug(String message, Object param1, Object param2) {
+        logger.debug(message, param1, param2);
+    }
+
+    /********************************************************************************************
+     * Logs an error message with the stack trace of its cause.
+     *
+     * @param message The message to be logged.
+     * @param error   The cause of the error.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static void error(String message, Throwable error) {
+        logger.error(message, error);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base for row iterators over memory-mapped text files.
+ *
+ * The whole file is mapped read-only and parsed straight from the mapping, so
+ * no read buffers are filled and the pages are shared with any other reader of
+ * the same file. Each field is decoded from UTF-8 into its String once; only
+ * fields that need unescaping go through the shared scratch buffer.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+abstract class MappedRowIterator implements Iterator<Object[]> {
+
+	protected final String filePath;
+	protected final ByteBuffer buffer;
+	protected final int limit;
+	protected int position;
+	protected int lineNumber;
+	private final ByteBuffer view;
+	private byte[] scratch = new byte[256];
+	private int scratchLength;
+	private Object[] nextRow;
+	private boolean exhausted;
+
+	protected MappedRowIterator(String filePath) throws IOException {
+		this.filePath = filePath;
+		Path file = Paths.get(filePath);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("File " + filePath + " is larger than 2 GB and cannot be mapped");
+			}
+			// the mapping stays valid after the channel is closed
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		this.view = buffer.duplicate();
+		this.limit = buffer.limit();
+		if (limit >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB
+				&& (buffer.get(2) & 0xFF) == 0xBF) {
+			position = 3;
+		}
+	}
+
+	/** Parses the next row, or returns null at the end of the file. */
+	protected abstract Object[] readRow();
+
+	@Override
+	public boolean hasNext() {
+		if (nextRow == null && !exhausted) {
+			nextRow = readRow();
+			exhausted = nextRow == null;
+		}
+		return nextRow != null;
+	}
+
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more rows in " + filePath);
+		}
+		Object[] row = nextRow;
+		nextRow = null;
+		return row;
+	}
+
+	/** Decodes the UTF-8 bytes between from (inclusive) and to (exclusive). */
+	protected String decode(int from, int to) {
+		if (from == to) {
+			return "";
+		}
+		int length = to - from;
+		ensureScratch(length);
+		view.position(from);
+		view.get(scratch, 0, length);
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	protected void resetScratch() {
+		scratchLength = 0;
+	}
+
+	protected void appendToScratch(int from, int to) {
+		int length = to - from;
+		ensureScratch(scratchLength + length);
+		view.position(from);
+		view.get(scratch, scratchLength, length);
+		scratchLength += length;
+	}
+
+	protected void appendToScratch(byte value) {
+		ensureScratch(scratchLength + 1);
+		scratch[scratchLength++] = value;
+	}
+
+	protected String scratchString() {
+		return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+	}
+
+	protected IllegalArgumentException malformed(String problem) {
+		return new IllegalArgumentException(problem + " at line " + lineNumber + " of " + filePath);
+	}
+
+	private void ensureScratch(int capacity) {
+		if (capacity > scratch.length) {
+			scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length * 2));
+		}
+	}
+}
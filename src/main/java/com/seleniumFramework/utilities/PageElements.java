@@ -0,0 +1,150 @@
+package com.seleniumFramework.utilities;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+
+/**
+ * Page object initialisation that keeps the locator of every element.
+ *
+ * PageFactory proxies look their element up on every call, including
+ * {@code toString()}, so describing one for a log line or a wait key costs a
+ * findElement roundtrip, and the description differs depending on whether the
+ * element is on the page. Elements initialised through {@link #initElements}
+ * behave exactly like PageFactory's, but also implement {@link Described},
+ * which returns the {@code @FindBy} locator without touching the browser.
+ * LocatorCache handles implement it as well.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class PageElements {
+
+	private PageElements() {
+	}
+
+	/** An element that knows its locator. */
+	public interface Described {
+
+		/** The locator the element is found by, e.g. {@code By.id: login}. */
+		String describeLocator();
+	}
+
+	/********************************************************************************************
+	 * Initialises the {@code @FindBy} fields of a page object like
+	 * {@link PageFactory#initElements(SearchContext, Object)}, with elements that
+	 * also implement {@link Described}.
+	 *
+	 * @param context the driver or element the fields are looked up in
+	 * @param page    the page object
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void initElements(SearchContext context, Object page) {
+		PageFactory.initElements(new DescribedFieldDecorator(context), page);
+	}
+
+	/********************************************************************************************
+	 * Describes an element by its locator without a browser roundtrip.
+	 *
+	 * @param webElement the element, or null
+	 * @return the locator, e.g. {@code By.id: login}; null if the element cannot
+	 *         be described cheaply, e.g. a plain PageFactory proxy
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String locatorOf(WebElement webElement) {
+		if (webElement instanceof Described) {
+			return ((Described) webElement).describeLocator();
+		}
+		if (webElement == null || Proxy.isProxyClass(webElement.getClass())) {
+			// other proxies resolve themselves to answer toString()
+			return null;
+		}
+		// a plain remote element formats its session and locator locally
+		String description = webElement.toString();
+		int locatorStart = description.indexOf("-> ");
+		if (locatorStart < 0) {
+			return null;
+		}
+		String locator = description.substring(locatorStart + 3);
+		if (locator.endsWith("]")) {
+			locator = locator.substring(0, locator.length() - 1);
+		}
+		// "xpath: //a" in the same form as By.toString(), which the other paths return
+		return locator.startsWith("unknown locator") ? null : "By." + locator;
+	}
+
+	/********************************************************************************************
+	 * Describes an element for a log line: its locator, or {@code <element>} if
+	 * it cannot be described without a browser roundtrip.
+	 *
+	 * @param webElement the element, or null
+	 * @return the description
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String describe(WebElement webElement) {
+		if (webElement == null) {
+			return null;
+		}
+		String locator = locatorOf(webElement);
+		return locator != null ? locator : "<element>";
+	}
+
+	/**
+	 * A DefaultElementLocator that remembers the locator built from the field's
+	 * annotations.
+	 */
+	private static final class DescribedLocator extends DefaultElementLocator {
+		private final String description;
+
+		DescribedLocator(SearchContext context, Field field) {
+			this(context, new Annotations(field));
+		}
+
+		private DescribedLocator(SearchContext context, Annotations annotations) {
+			super(context, annotations);
+			this.description = String.valueOf(annotations.buildBy());
+		}
+	}
+
+	/**
+	 * Decorates WebElement fields with PageFactory's locating handler behind a
+	 * proxy that also implements {@link Described}.
+	 */
+	private static final class DescribedFieldDecorator extends DefaultFieldDecorator {
+
+		DescribedFieldDecorator(SearchContext context) {
+			super(field -> new DescribedLocator(context, field));
+		}
+
+		@Override
+		protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+			if (!(locator instanceof DescribedLocator)) {
+				return super.proxyForLocator(loader, locator);
+			}
+			String description = ((DescribedLocator) locator).description;
+			InvocationHandler handler = new LocatingElementHandler(locator);
+			return (WebElement) Proxy.newProxyInstance(loader,
+					new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class, Described.class },
+					(proxy, method, args) -> method.getDeclaringClass() == Described.class ? description
+							: handler.invoke(proxy, method, args));
+		}
+	}
+}
@@ -64,4 +64,48 @@ public class ReadConfig {
         logger.info("Browser type retrieved: {}", browser);
         return browser;
     }
+
+    /********************************************************************************************
+     * Gets the session recycling flag from the properties file.
+     *
+     * @return "true" to keep browser sessions alive across suites, or null if not
+     *         configured.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public String getSessionRecycling() {
+    	String sessionRecycling = properties != null ? properties.getProperty("sessionRecycling") : null;
+        logger.info("Session recycling retrieved: {}", sessionRecycling);
+        return sessionRecycling;
+    }
+
+    /********************************************************************************************
+     * Gets the browser profile from the properties file.
+     *
+     * @return The browser profile name, or null if not configured.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public String getBrowserProfile() {
+    	String browserProfile = properties != null ? properties.getProperty("browserProfile") : null;
+        logger.info("Browser profile retrieved: {}", browserProfile);
+        return browserProfile;
+    }
+
+    /********************************************************************************************
+     * Gets the element highlight mode from the properties file.
+     *
+     * @return The highlight mode name (off, async or screenshot-only), or null if
+     *         not configured.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public String getHighlightMode() {
+    	String highlightMode = properties != null ? properties.getProperty("highlightMode") : null;
+        logger.info("Highlight mode retrieved: {}", highlightMode);
+        return highlightMode;
+    }
 }
@@ -0,0 +1,167 @@
+package com.seleniumFramework.utilities;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Bounded, lock-free queue of report events applied by a single reporter
+ * thread.
+ *
+ * ExtentReports is not built for concurrent writers, so every call into it is
+ * wrapped in an event and run on the reporter thread in submission order.
+ * Test threads only append to a {@link ConcurrentLinkedQueue}; the bound of
+ * {@link Config#REPORT_QUEUE_CAPACITY} events is kept with an atomic counter.
+ * When the queue is full, submitting threads wait for the reporter to catch up
+ * rather than drop events; how often and how long that happens is reported by
+ * {@link #stats()}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ReportEventQueue {
+
+	private static final Logger logger = LogManager.getLogger(ReportEventQueue.class);
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private static final ConcurrentLinkedQueue<Runnable> events = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger pending = new AtomicInteger();
+	private static final AtomicLong submitted = new AtomicLong();
+	private static final AtomicLong applied = new AtomicLong();
+	private static final AtomicLong failed = new AtomicLong();
+	private static final AtomicLong stalls = new AtomicLong();
+	private static final AtomicLong stalledNanos = new AtomicLong();
+	private static final AtomicInteger maxDepth = new AtomicInteger();
+	private static volatile boolean reporterIdle;
+	private static final Thread reporter = startReporter();
+
+	private ReportEventQueue() {
+	}
+
+	/********************************************************************************************
+	 * Queues an event for the reporter thread. Waits only while the queue is
+	 * full. Events submitted from the reporter thread itself run immediately.
+	 *
+	 * @param event the report update to apply
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void submit(Runnable event) {
+		if (Thread.currentThread() == reporter) {
+			apply(event);
+			return;
+		}
+		int depth = pending.incrementAndGet();
+		if (depth > Config.REPORT_QUEUE_CAPACITY) {
+			stalls.incrementAndGet();
+			long start = System.nanoTime();
+			while (pending.get() > Config.REPORT_QUEUE_CAPACITY) {
+				LockSupport.unpark(reporter);
+				LockSupport.parkNanos(FULL_PARK_NANOS);
+			}
+			stalledNanos.addAndGet(System.nanoTime() - start);
+		}
+		events.offer(event);
+		submitted.incrementAndGet();
+		maxDepth.accumulateAndGet(depth, Math::max);
+		if (reporterIdle) {
+			LockSupport.unpark(reporter);
+		}
+	}
+
+	/********************************************************************************************
+	 * Runs an action on the reporter thread after every event submitted before
+	 * it, and waits for it. Used to flush the report once all pending updates
+	 * have been applied.
+	 *
+	 * @param action  the action to run once the queue has drained
+	 * @param timeout the maximum time to wait
+	 * @param unit    the unit of the timeout
+	 * @return true if the action ran within the timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static boolean drainAndRun(Runnable action, long timeout, TimeUnit unit) {
+		CountDownLatch done = new CountDownLatch(1);
+		submit(() -> {
+			try {
+				action.run();
+			} finally {
+				done.countDown();
+			}
+		});
+		try {
+			if (done.await(timeout, unit)) {
+				return true;
+			}
+			logger.error("Report events not drained within {} {}; {} event(s) still pending", timeout, unit,
+					pending.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.error("Interrupted while draining report events; {} event(s) still pending", pending.get());
+		}
+		return false;
+	}
+
+	/********************************************************************************************
+	 * Summarises the queue: events submitted and applied, the deepest backlog
+	 * and how often test threads had to wait for a full queue.
+	 *
+	 * @return the queue statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String stats() {
+		return String.format(
+				"Report queue: %d event(s) submitted, %d applied, %d failed, %d pending, max depth %d of %d, %d stall(s) totalling %d ms",
+				submitted.get(), applied.get(), failed.get(), pending.get(), maxDepth.get(),
+				Config.REPORT_QUEUE_CAPACITY, stalls.get(), TimeUnit.NANOSECONDS.toMillis(stalledNanos.get()));
+	}
+
+	private static Thread startReporter() {
+		Thread thread = new Thread(ReportEventQueue::run, "extent-reporter");
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	private static void run() {
+		while (true) {
+			Runnable event = events.poll();
+			if (event == null) {
+				reporterIdle = true;
+				// re-check after publishing the idle flag so that a wake-up is never missed
+				if (events.isEmpty()) {
+					LockSupport.parkNanos(IDLE_PARK_NANOS);
+				}
+				reporterIdle = false;
+				continue;
+			}
+			pending.decrementAndGet();
+			apply(event);
+		}
+	}
+
+	private static void apply(Runnable event) {
+		try {
+			applied.incrementAndGet();
+			event.run();
+		} catch (RuntimeException e) {
+			failed.incrementAndGet();
+			logger.error("Failed to apply report event: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.seleniumFramework.utilities;
+
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+
+/**
+ * Handle to a test or node of the Extent report.
+ *
+ * Methods mirror those of {@link ExtentTest} but do not touch the report:
+ * each call is queued on the {@link ReportEventQueue} and applied by the
+ * reporter thread, which also creates the underlying ExtentTest. Calls return
+ * immediately, so reporting stays off the test threads.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ReportNode {
+
+	private static final Logger logger = LogManager.getLogger(ReportNode.class);
+
+	private final ReportNode root;
+	// only read and written on the reporter thread
+	private ExtentTest test;
+	private RollingExtentReport.Part part;
+	private boolean completed;
+
+	private ReportNode(ReportNode root) {
+		this.root = root == null ? this : root;
+	}
+
+	static ReportNode createTest(Supplier<RollingExtentReport> report, String name, String description) {
+		ReportNode node = new ReportNode(null);
+		ReportEventQueue.submit(() -> {
+			node.part = report.get().currentPart();
+			node.test = node.part.createTest(name, description);
+		});
+		return node;
+	}
+
+	public ReportNode createNode(String name) {
+		ReportNode child = new ReportNode(root);
+		ReportEventQueue.submit(() -> {
+			child.part = part;
+			child.test = test.createNode(name);
+		});
+		return child;
+	}
+
+	/**
+	 * Marks the top-level test of this node as completed, so that its report
+	 * file can be flushed and released once all its tests are done.
+	 */
+	void complete() {
+		ReportEventQueue.submit(() -> {
+			if (!root.completed && root.part != null) {
+				root.completed = true;
+				root.part.testCompleted();
+			}
+		});
+	}
+
+	public ReportNode log(Status status, String details) {
+		apply(() -> test.log(status, details));
+		return this;
+	}
+
+	public ReportNode log(Status status, Throwable throwable) {
+		apply(() -> test.log(status, throwable));
+		return this;
+	}
+
+	/********************************************************************************************
+	 * Logs a step with a screenshot attached from a file.
+	 *
+	 * @param status         the status of the step
+	 * @param details        the step description
+	 * @param screenshotPath the path of the screenshot file
+	 * @return this node
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public ReportNode log(Status status, String details, String screenshotPath) {
+		apply(() -> test.log(status, details,
+				MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build()));
+		return this;
+	}
+
+	public ReportNode pass(String details) {
+		return log(Status.PASS, details);
+	}
+
+	public ReportNode fail(String details) {
+		return log(Status.FAIL, details);
+	}
+
+	public ReportNode skip(String details) {
+		return log(Status.SKIP, details);
+	}
+
+	public ReportNode warning(String details) {
+		return log(Status.WARNING, details);
+	}
+
+	public ReportNode info(String details) {
+		return log(Status.INFO, details);
+	}
+
+	public ReportNode assignCategory(String... categories) {
+		apply(() -> test.assignCategory(categories));
+		return this;
+	}
+
+	public ReportNode assignAuthor(String... authors) {
+		apply(() -> test.assignAuthor(authors));
+		return this;
+	}
+
+	public ReportNode assignDevice(String... devices) {
+		apply(() -> test.assignDevice(devices));
+		return this;
+	}
+
+	public ReportNode addScreenCaptureFromPath(String screenshotPath) {
+		apply(() -> test.addScreenCaptureFromPath(screenshotPath));
+		return this;
+	}
+
+	private void apply(Runnable update) {
+		ReportEventQueue.submit(() -> {
+			if (part != null && part.isReleased()) {
+				logger.warn("Report file of {} was already written; update is not reported",
+						root.test.getModel().getName());
+			}
+			update.run();
+		});
+	}
+}
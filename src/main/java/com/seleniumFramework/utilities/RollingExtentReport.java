@@ -0,0 +1,217 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.seleniumFramework.common.Config;
+
+/**
+ * Extent report written incrementally, as a series of report files.
+ *
+ * The current file is flushed every {@link Config#REPORT_FLUSH_EVERY_TESTS}
+ * completed tests and at least every
+ * {@link Config#REPORT_FLUSH_INTERVAL_SECONDS}, so a crashed run still leaves
+ * a report of what completed. After {@link Config#REPORT_TESTS_PER_FILE}
+ * completed tests the file is closed and a new one started; a closed file is
+ * flushed a last time and released from memory once its tests still running
+ * have completed, so heap use stays flat however long the suite runs. When
+ * more than one file was written, an index page links them all.
+ *
+ * Every method must be called on the reporter thread of the
+ * {@link ReportEventQueue}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class RollingExtentReport {
+
+	private static final Logger logger = LogManager.getLogger(RollingExtentReport.class);
+
+	private final String directory;
+	private final String baseName;
+	private final List<String> fileNames = new ArrayList<>();
+	private final List<Part> closedParts = new ArrayList<>();
+	private Part current;
+	private int completedSinceFlush;
+	private long lastFlushNanos = System.nanoTime();
+
+	/** One report file and the ExtentReports instance that builds it. */
+	public final class Part {
+		private final ExtentReports report = new ExtentReports();
+		private final String fileName;
+		private int running;
+		private int completed;
+		private boolean closed;
+		private boolean released;
+
+		private Part(String fileName) {
+			this.fileName = fileName;
+			ExtentSparkReporter sparkReporter = new ExtentSparkReporter(directory + fileName);
+			sparkReporter.config().setTheme(Theme.STANDARD);
+			sparkReporter.config().setDocumentTitle("Automation Test Report");
+			sparkReporter.config().setReportName(fileNames.isEmpty() ? "Test Execution Report"
+					: "Test Execution Report (part " + (fileNames.size() + 1) + ")");
+			report.attachReporter(sparkReporter);
+		}
+
+		ExtentTest createTest(String name, String description) {
+			running++;
+			return report.createTest(name, description);
+		}
+
+		void testCompleted() {
+			running--;
+			completed++;
+			onTestCompleted(this);
+		}
+
+		boolean isReleased() {
+			return released;
+		}
+
+		private void flush() {
+			if (!released) {
+				report.flush();
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Starts a report whose first file is {@code directory + baseName + ".html"};
+	 * further files get a {@code _partN} suffix.
+	 *
+	 * @param directory the directory of the report files, ending with a separator
+	 * @param baseName  the file name of the report without extension
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public RollingExtentReport(String directory, String baseName) {
+		this.directory = directory;
+		this.baseName = baseName;
+		this.current = newPart();
+		logger.info("ExtentReport initialized with SparkReporter: {}", directory + current.fileName);
+	}
+
+	/** The file new top-level tests are added to. */
+	public Part currentPart() {
+		return current;
+	}
+
+	/********************************************************************************************
+	 * Flushes the files in memory if enough tests completed or enough time
+	 * passed since the last flush.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public void flushIfDue() {
+		long sinceFlush = System.nanoTime() - lastFlushNanos;
+		if (completedSinceFlush >= Config.REPORT_FLUSH_EVERY_TESTS
+				|| sinceFlush >= TimeUnit.SECONDS.toNanos(Config.REPORT_FLUSH_INTERVAL_SECONDS)) {
+			flush();
+		}
+	}
+
+	/********************************************************************************************
+	 * Flushes every file still in memory and writes the index page if the
+	 * report spans several files.
+	 *
+	 * @return the path of the page to open: the index page, or the only report
+	 *         file
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public String finish() {
+		flush();
+		logger.info("Report written to {} file(s), {} test(s) in the last one", fileNames.size(), current.completed);
+		return fileNames.size() > 1 ? directory + baseName + "_index.html" : directory + current.fileName;
+	}
+
+	private void flush() {
+		long start = System.nanoTime();
+		current.flush();
+		// closed files still have tests running
+		for (Part part : closedParts) {
+			part.flush();
+		}
+		completedSinceFlush = 0;
+		lastFlushNanos = System.nanoTime();
+		logger.info("Flushed {} test(s) to {} in {} ms", current.completed, current.fileName,
+				TimeUnit.NANOSECONDS.toMillis(lastFlushNanos - start));
+	}
+
+	private void onTestCompleted(Part part) {
+		if (part == current) {
+			completedSinceFlush++;
+			if (current.completed >= Config.REPORT_TESTS_PER_FILE) {
+				rollOver();
+				return;
+			}
+			flushIfDue();
+		} else if (part.closed && part.running == 0) {
+			release(part);
+		}
+	}
+
+	private void rollOver() {
+		Part previous = current;
+		flush();
+		previous.closed = true;
+		current = newPart();
+		if (previous.running == 0) {
+			release(previous);
+		} else {
+			closedParts.add(previous);
+		}
+		writeIndex();
+		logger.info("Report file {} closed after {} test(s); continuing in {}", previous.fileName, previous.completed,
+				current.fileName);
+	}
+
+	private void release(Part part) {
+		part.flush();
+		part.released = true;
+		closedParts.remove(part);
+		logger.info("Released report file {} from memory", part.fileName);
+	}
+
+	private Part newPart() {
+		String fileName = fileNames.isEmpty() ? baseName + ".html"
+				: baseName + "_part" + (fileNames.size() + 1) + ".html";
+		Part part = new Part(fileName);
+		fileNames.add(fileName);
+		return part;
+	}
+
+	private void writeIndex() {
+		StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\">")
+				.append("<title>Automation Test Report</title></head><body>\n<h1>Test Execution Report</h1>\n<ol>\n");
+		for (String fileName : fileNames) {
+			html.append("<li><a href=\"").append(fileName).append("\">").append(fileName).append("</a></li>\n");
+		}
+		html.append("</ol>\n</body></html>\n");
+		Path index = Paths.get(directory, baseName + "_index.html");
+		try {
+			Files.createDirectories(index.getParent());
+			Files.write(index, html.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			logger.error("Failed to write report index {}: {}", index, e.getMessage(), e);
+		}
+	}
+}
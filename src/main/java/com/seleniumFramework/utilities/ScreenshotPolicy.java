@@ -0,0 +1,78 @@
+package com.seleniumFramework.utilities;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * When step screenshots are taken, selectable through the
+ * {@code screenshotCapture} suite parameter, system property or
+ * {@link Config#SCREENSHOT_CAPTURE}.
+ *
+ * <ul>
+ * <li>{@code none} - no step screenshots, only the one taken on failure</li>
+ * <li>{@code everystep} - every step is captured and saved</li>
+ * <li>{@code laststep} - the last step is kept in memory and saved only if the
+ * test fails</li>
+ * <li>{@code laststeps} - the last {@link Config#SCREENSHOT_RECENT_STEPS}
+ * steps are kept in memory and saved only if the test fails</li>
+ * <li>{@code sampled} - every {@link Config#SCREENSHOT_SAMPLE_EVERY}th step is
+ * saved</li>
+ * </ul>
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public enum ScreenshotPolicy {
+
+	NONE("none"), EVERY_STEP("everystep"), LAST_STEP("laststep"), LAST_STEPS("laststeps"), SAMPLED("sampled");
+
+	private final String policyName;
+
+	ScreenshotPolicy(String policyName) {
+		this.policyName = policyName;
+	}
+
+	public String getPolicyName() {
+		return policyName;
+	}
+
+	/** Number of recent steps kept in memory, 0 if steps are not kept. */
+	public int recentSteps() {
+		switch (this) {
+		case LAST_STEP:
+			return 1;
+		case LAST_STEPS:
+			return Math.max(1, Config.SCREENSHOT_RECENT_STEPS);
+		default:
+			return 0;
+		}
+	}
+
+	/********************************************************************************************
+	 * Looks up a policy by its name as used in suite XML and Config.
+	 *
+	 * @param name the policy name, e.g. laststeps, in any case; null or blank
+	 *             selects laststeps
+	 * @return the matching policy
+	 * @throws IllegalArgumentException if no policy has the given name
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static ScreenshotPolicy fromName(String name) {
+		if (name == null || name.trim().isEmpty()) {
+			return LAST_STEPS;
+		}
+		for (ScreenshotPolicy policy : values()) {
+			if (policy.policyName.equalsIgnoreCase(name.trim())) {
+				return policy;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported screenshot capture policy: " + name);
+	}
+
+	@Override
+	public String toString() {
+		return policyName;
+	}
+}
@@ -0,0 +1,406 @@
+package com.seleniumFramework.utilities;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Captures screenshots without blocking test threads on decoding and disk
+ * writes.
+ *
+ * The calling thread only asks the browser for the screenshot, as the base64
+ * text the driver returns anyway; decoding it and writing the PNG straight to
+ * its final path happen on a small pool of {@link Config#SCREENSHOT_WRITER_THREADS}
+ * writer threads. {@link #capture} returns as soon as the browser has answered,
+ * with the path the file will have, so it can be linked from the report right
+ * away. Captures from different threads never wait on each other; only when
+ * {@link Config#SCREENSHOT_QUEUE_CAPACITY} screenshots are waiting to be
+ * written does the capturing thread write its own, which bounds the memory held
+ * by pending screenshots.
+ *
+ * Files are named after the test, its iteration and the step:
+ * {@code <test>_<iteration>_<step>[_<label>]}, where the iteration counts every
+ * run of the test in this JVM (retries, data-driven rows), so screenshots of
+ * different runs never overwrite each other. Between {@link #startTest} and
+ * {@link #endTest} the screenshots of a thread are stored in order by
+ * {@link ScreenshotStore}, which compresses and scales them down and skips
+ * frames identical to the previous one.
+ *
+ * A screenshot can also be limited to one element with
+ * {@link #capture(WebDriver, WebElement, String)}. On Chromium browsers, when
+ * {@link Config#SCREENSHOT_USE_CDP} is set, screenshots are taken with the
+ * DevTools {@code Page.captureScreenshot} command: the browser encodes only the
+ * clipped area, as JPEG at {@link Config#SCREENSHOT_QUALITY}, which is much
+ * smaller and faster than a full PNG. Other browsers use
+ * {@link TakesScreenshot}, of the element or the viewport.
+ *
+ * Capture and write times are recorded per screenshot and summarised by
+ * {@link #stats()}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class ScreenshotService {
+
+	private static final Logger logger = LogManager.getLogger(ScreenshotService.class);
+	private static final Path SCREENSHOT_DIR = Paths.get(System.getProperty("user.dir"), "screenshots");
+
+	private static final Set<CompletableFuture<Path>> pending = ConcurrentHashMap.newKeySet();
+	private static final Map<String, AtomicInteger> iterations = new ConcurrentHashMap<>();
+	private static final ThreadLocal<Sequence> currentTest = new ThreadLocal<>();
+	private static final AtomicLong captured = new AtomicLong();
+	private static final AtomicLong written = new AtomicLong();
+	private static final AtomicLong duplicates = new AtomicLong();
+	private static final AtomicLong failed = new AtomicLong();
+	private static final AtomicLong rawBytes = new AtomicLong();
+	private static final AtomicLong writtenBytes = new AtomicLong();
+	private static final AtomicLong grabNanos = new AtomicLong();
+	private static final AtomicLong maxGrabNanos = new AtomicLong();
+	private static final AtomicLong writeNanos = new AtomicLong();
+	private static final AtomicLong maxLatencyNanos = new AtomicLong();
+
+	private ScreenshotService() {
+	}
+
+	/** A screenshot taken from the browser and being written to disk. */
+	public static final class Capture {
+		private final Path path;
+		private final CompletableFuture<Path> written;
+
+		private Capture(Path path, CompletableFuture<Path> written) {
+			this.path = path;
+			this.written = written;
+		}
+
+		/** The path of the screenshot file, which may not be written yet. */
+		public String getPath() {
+			return path.toString();
+		}
+
+		/** Completes with the path once the file is written. */
+		public CompletableFuture<Path> whenWritten() {
+			return written;
+		}
+
+		/********************************************************************************************
+		 * Waits until the file is written.
+		 *
+		 * @return the path of the screenshot file
+		 * @throws IOException if the file could not be written
+		 *
+		 * @author Abhijeet Maske Created October 18, 2026
+		 * @version 1.0 October 18, 2026
+		 ********************************************************************************************/
+		public String await() throws IOException {
+			try {
+				return written.get().toString();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException) {
+					throw (IOException) e.getCause();
+				}
+				throw new IOException("Failed to write screenshot " + path, e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while writing screenshot " + path, e);
+			}
+		}
+	}
+
+	/********************************************************************************************
+	 * Starts numbering the screenshots of the calling thread as a new run of a
+	 * test. Consecutive screenshots until {@link #endTest()} are compared with
+	 * each other, and identical ones are not stored again.
+	 *
+	 * @param testName the name of the test
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void startTest(String testName) {
+		currentTest.set(new Sequence(testName, nextIteration(testName)));
+	}
+
+	/** Ends the test started by {@link #startTest} on the calling thread. */
+	public static void endTest() {
+		currentTest.remove();
+	}
+
+	/********************************************************************************************
+	 * Takes a screenshot of the browser and queues it to be stored under
+	 * {@code screenshots/} in the working directory. Within a test the file is
+	 * named after the test, iteration and step, followed by the label unless it
+	 * is the test name; outside a test, after the label and how many
+	 * screenshots were taken with it.
+	 *
+	 * @param driver the WebDriver instance to capture
+	 * @param label  what the screenshot shows, e.g. the step or the test name
+	 * @return the pending capture, whose path is known immediately
+	 * @throws org.openqa.selenium.WebDriverException if the browser cannot take
+	 *                                                the screenshot
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.1 October 18, 2026
+	 ********************************************************************************************/
+	public static Capture capture(WebDriver driver, String label) {
+		return capture(driver, null, label);
+	}
+
+	/********************************************************************************************
+	 * Takes a screenshot of one element, or of the viewport if the element is
+	 * null, and queues it to be stored like {@link #capture(WebDriver, String)}.
+	 * Step screenshots of the element acted on are a fraction of the size of a
+	 * full viewport and are taken faster.
+	 *
+	 * @param driver  the WebDriver instance to capture
+	 * @param element the element to capture, or null for the viewport
+	 * @param label   what the screenshot shows, e.g. the step or the test name
+	 * @return the pending capture, whose path is known immediately
+	 * @throws org.openqa.selenium.WebDriverException if the browser cannot take
+	 *                                                the screenshot
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static Capture capture(WebDriver driver, WebElement element, String label) {
+		long start = System.nanoTime();
+		return store(take(driver, element), label, start);
+	}
+
+	/********************************************************************************************
+	 * Takes a screenshot without storing it, for callers that decide later
+	 * whether to keep it.
+	 *
+	 * @param driver  the WebDriver instance to capture
+	 * @param element the element to capture, or null for the viewport
+	 * @return the screenshot as base64 text, PNG or JPEG
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static String take(WebDriver driver, WebElement element) {
+		long start = System.nanoTime();
+		String base64 = takeScreenshot(driver, element);
+		long grabbed = System.nanoTime();
+		record(grabNanos, maxGrabNanos, grabbed - start);
+		captured.incrementAndGet();
+		logger.debug("Screenshot taken in {} ms", TimeUnit.NANOSECONDS.toMillis(grabbed - start));
+		return base64;
+	}
+
+	/********************************************************************************************
+	 * Queues a screenshot taken with {@link #take} to be stored, named as the
+	 * next step of the calling thread's test.
+	 *
+	 * @param base64  the screenshot as base64 text
+	 * @param label   what the screenshot shows
+	 * @param takenAt the {@link System#nanoTime()} at which it was taken
+	 * @return the pending capture, whose path is known immediately
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static Capture store(String base64, String label, long takenAt) {
+		Sequence sequence = currentTest.get();
+		if (sequence == null) {
+			// not part of a test: nothing to compare with
+			sequence = new Sequence(label, nextIteration(label));
+		}
+		Path path = SCREENSHOT_DIR.resolve(sequence.nextFileName(label) + "." + ScreenshotStore.FORMAT);
+		CompletableFuture<Path> future = new CompletableFuture<>();
+		pending.add(future);
+		// frames of one test are stored in order, so each is compared with the one before
+		sequence.last = sequence.last.thenApplyAsync(previous -> {
+			try {
+				ScreenshotStore.Frame frame = write(base64, path, previous, takenAt);
+				pending.remove(future);
+				future.complete(path);
+				return frame;
+			} catch (IOException | RuntimeException e) {
+				failed.incrementAndGet();
+				logger.error("Failed to write screenshot {}: {}", path, e.getMessage(), e);
+				pending.remove(future);
+				future.completeExceptionally(e);
+				return previous;
+			}
+		}, WriterPool.POOL);
+		return new Capture(path, future);
+	}
+
+	/********************************************************************************************
+	 * Waits until every screenshot queued so far has been written. Called
+	 * before the report is finished, so that every linked file exists.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit    the unit of the timeout
+	 * @return true if all screenshots were written (or failed) within the
+	 *         timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static boolean awaitWrites(long timeout, TimeUnit unit) {
+		CompletableFuture<?>[] waiting = pending.toArray(new CompletableFuture<?>[0]);
+		try {
+			CompletableFuture.allOf(waiting).get(timeout, unit);
+		} catch (ExecutionException e) {
+			// already logged by the failed capture
+		} catch (TimeoutException e) {
+			logger.error("Screenshots not written within {} {}; {} still pending", timeout, unit, pending.size());
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	/********************************************************************************************
+	 * Summarises the screenshots taken so far: how many were written, skipped
+	 * as duplicates or failed, how much they were compressed, and how long
+	 * taking and writing them took.
+	 *
+	 * @return the capture statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String stats() {
+		long count = Math.max(1, captured.get());
+		long writes = Math.max(1, written.get());
+		return String.format(
+				"Screenshots: %d taken, %d written (%d KB of %d KB taken), %d duplicate(s), %d failed, %d pending; take avg %d ms max %d ms, write avg %d ms, capture to disk max %d ms",
+				captured.get(), written.get(), writtenBytes.get() / 1024, rawBytes.get() / 1024, duplicates.get(),
+				failed.get(), pending.size(),
+				TimeUnit.NANOSECONDS.toMillis(grabNanos.get() / count),
+				TimeUnit.NANOSECONDS.toMillis(maxGrabNanos.get()),
+				TimeUnit.NANOSECONDS.toMillis(writeNanos.get() / writes),
+				TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+	}
+
+	private static String takeScreenshot(WebDriver driver, WebElement element) {
+		if (driver == null) {
+			throw new NoSuchSessionException("No driver to take a screenshot with");
+		}
+		if (Config.SCREENSHOT_USE_CDP && driver instanceof HasCdp) {
+			Map<String, Object> params = new HashMap<>();
+			params.put("format", "jpeg");
+			params.put("quality", Math.round(Config.SCREENSHOT_QUALITY * 100));
+			if (element != null) {
+				Rectangle rect = element.getRect();
+				if (rect.getWidth() > 0 && rect.getHeight() > 0) {
+					Map<String, Object> clip = new HashMap<>();
+					// the rect is in CSS pixels relative to the document, as the clip expects
+					clip.put("x", rect.getX());
+					clip.put("y", rect.getY());
+					clip.put("width", rect.getWidth());
+					clip.put("height", rect.getHeight());
+					clip.put("scale", 1);
+					params.put("clip", clip);
+					params.put("captureBeyondViewport", true);
+				}
+			}
+			try {
+				Object data = ((HasCdp) driver).executeCdpCommand("Page.captureScreenshot", params).get("data");
+				if (data instanceof String) {
+					return (String) data;
+				}
+			} catch (WebDriverException e) {
+				logger.debug("Page.captureScreenshot failed, taking the screenshot through WebDriver: {}",
+						e.getMessage());
+			}
+		}
+		TakesScreenshot source = element != null ? element : (TakesScreenshot) driver;
+		return source.getScreenshotAs(OutputType.BASE64);
+	}
+
+	private static ScreenshotStore.Frame write(String base64, Path path, ScreenshotStore.Frame previous,
+			long capturedAt) throws IOException {
+		long start = System.nanoTime();
+		byte[] png = Base64.getMimeDecoder().decode(base64);
+		ScreenshotStore.Frame frame = ScreenshotStore.store(png, path, previous);
+		long end = System.nanoTime();
+		writeNanos.addAndGet(end - start);
+		maxLatencyNanos.accumulateAndGet(end - capturedAt, Math::max);
+		rawBytes.addAndGet(png.length);
+		if (frame.isDuplicate()) {
+			duplicates.incrementAndGet();
+			logger.info("Screenshot {} unchanged from {}; linked instead of stored", path, previous.getPath());
+			return frame;
+		}
+		writtenBytes.addAndGet(frame.getBytes());
+		written.incrementAndGet();
+		logger.info("Screenshot saved: {} ({} KB from {} KB, {} ms after capture)", path, frame.getBytes() / 1024,
+				png.length / 1024, TimeUnit.NANOSECONDS.toMillis(end - capturedAt));
+		return frame;
+	}
+
+	private static int nextIteration(String testName) {
+		return iterations.computeIfAbsent(testName, name -> new AtomicInteger()).incrementAndGet();
+	}
+
+	private static void record(AtomicLong total, AtomicLong max, long nanos) {
+		total.addAndGet(nanos);
+		max.accumulateAndGet(nanos, Math::max);
+	}
+
+	/** The screenshots of one run of a test, numbered and stored in order. */
+	private static final class Sequence {
+		private final String testName;
+		private final int iteration;
+		private int step;
+		private CompletableFuture<ScreenshotStore.Frame> last = CompletableFuture.completedFuture(null);
+
+		private Sequence(String testName, int iteration) {
+			this.testName = testName;
+			this.iteration = iteration;
+		}
+
+		private String nextFileName(String label) {
+			StringBuilder name = new StringBuilder(testName).append('_').append(iteration).append('_')
+					.append(String.format("%03d", ++step));
+			if (!label.equals(testName)) {
+				name.append('_').append(label);
+			}
+			return name.toString().replaceAll("[\\\\/:*?\"<>|\\s]+", "_");
+		}
+	}
+
+	private static final class WriterPool {
+		private static final AtomicInteger threads = new AtomicInteger();
+		// a full queue makes the capturing thread write its own screenshot
+		private static final ThreadPoolExecutor POOL = new ThreadPoolExecutor(Config.SCREENSHOT_WRITER_THREADS,
+				Config.SCREENSHOT_WRITER_THREADS, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Config.SCREENSHOT_QUEUE_CAPACITY), runnable -> {
+					Thread thread = new Thread(runnable, "screenshot-writer-" + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+}
@@ -0,0 +1,269 @@
+package com.seleniumFramework.utilities;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Turns screenshots taken by the browser into the files kept on disk.
+ *
+ * Each screenshot is scaled down to at most {@link Config#SCREENSHOT_MAX_WIDTH}
+ * pixels wide and encoded as {@link Config#SCREENSHOT_FORMAT} at
+ * {@link Config#SCREENSHOT_QUALITY}. A 256-bit difference hash of the image is
+ * compared with the previous frame kept for the same test; when both have the
+ * same size and no more than {@link Config#SCREENSHOT_DEDUPE_DISTANCE} bits
+ * differ, the page has not visibly changed and the frame is not encoded again:
+ * its file is a hard link to the kept frame, so it takes no space on disk.
+ *
+ * A screenshot the browser already encoded in the target format and size,
+ * such as a JPEG taken through DevTools, is written as it is rather than
+ * encoded a second time.
+ *
+ * WebP is used only if an ImageIO WebP writer is on the classpath; otherwise
+ * screenshots are written as JPEG.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+final class ScreenshotStore {
+
+	private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+	private static final int HASH_SIZE = 16;
+
+	/** The file format screenshots are written in. */
+	static final String FORMAT = resolveFormat(Config.SCREENSHOT_FORMAT);
+
+	private ScreenshotStore() {
+	}
+
+	/** A screenshot kept on disk, with the hash later frames are compared against. */
+	static final class Frame {
+		private final Path path;
+		private final long[] hash;
+		private final int width;
+		private final int height;
+		private final boolean duplicate;
+		private final long bytes;
+
+		private Frame(Path path, long[] hash, int width, int height, boolean duplicate, long bytes) {
+			this.path = path;
+			this.hash = hash;
+			this.width = width;
+			this.height = height;
+			this.duplicate = duplicate;
+			this.bytes = bytes;
+		}
+
+		Path getPath() {
+			return path;
+		}
+
+		/** Whether the frame links to the previous one instead of being stored. */
+		boolean isDuplicate() {
+			return duplicate;
+		}
+
+		/** The bytes the frame added on disk. */
+		long getBytes() {
+			return bytes;
+		}
+	}
+
+	/********************************************************************************************
+	 * Stores a screenshot at the given path, or links it to the previous frame
+	 * if the page has not visibly changed.
+	 *
+	 * @param data     the screenshot as taken by the browser, PNG or JPEG
+	 * @param path     the path of the file to write
+	 * @param previous the last frame kept for the same test, or null
+	 * @return the stored frame, or for a duplicate a frame with the path and hash
+	 *         of the previous one, to compare the next screenshot with
+	 * @throws IOException if the screenshot cannot be decoded or written
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static Frame store(byte[] data, Path path, Frame previous) throws IOException {
+		BufferedImage original = ImageIO.read(new ByteArrayInputStream(data));
+		if (original == null) {
+			throw new IOException("Screenshot " + path + " is not a readable image");
+		}
+		BufferedImage image = downscale(original, Config.SCREENSHOT_MAX_WIDTH);
+		long[] hash = differenceHash(image);
+		Files.createDirectories(path.getParent());
+
+		// an element and the page, or two differently sized elements, are never the same frame
+		if (previous != null && Config.SCREENSHOT_DEDUPE_DISTANCE >= 0 && image.getWidth() == previous.width
+				&& image.getHeight() == previous.height
+				&& distance(hash, previous.hash) <= Config.SCREENSHOT_DEDUPE_DISTANCE) {
+			link(path, previous.path);
+			return new Frame(previous.path, previous.hash, previous.width, previous.height, true, 0);
+		}
+		if (image == original && FORMAT.equals(formatOf(data))) {
+			Files.write(path, data);
+		} else {
+			try (OutputStream out = Files.newOutputStream(path);
+					ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+				encode(image, imageOut);
+			}
+		}
+		return new Frame(path, hash, image.getWidth(), image.getHeight(), false, Files.size(path));
+	}
+
+	/********************************************************************************************
+	 * Counts the bits that differ between two hashes.
+	 *
+	 * @param first  a hash from {@link #differenceHash}
+	 * @param second another hash from {@link #differenceHash}
+	 * @return the Hamming distance, from 0 for identical images to 256
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static int distance(long[] first, long[] second) {
+		int bits = 0;
+		for (int i = 0; i < first.length; i++) {
+			bits += Long.bitCount(first[i] ^ second[i]);
+		}
+		return bits;
+	}
+
+	/********************************************************************************************
+	 * Computes a 256-bit difference hash: the image is reduced to a 17 x 16
+	 * grid of average luminances, and each bit tells whether a cell is brighter
+	 * than its right neighbour. Similar images get hashes a few bits apart.
+	 *
+	 * @param image the image to hash
+	 * @return the hash, as four longs
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static long[] differenceHash(BufferedImage image) {
+		int columns = HASH_SIZE + 1;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		long[] sums = new long[columns * HASH_SIZE];
+		int[] counts = new int[columns * HASH_SIZE];
+		int[] line = new int[width];
+		// every other pixel of every other row is plenty for a 17 x 16 grid
+		for (int y = 0; y < height; y += 2) {
+			image.getRGB(0, y, width, 1, line, 0, width);
+			int rowOffset = (int) ((long) y * HASH_SIZE / height) * columns;
+			for (int x = 0; x < width; x += 2) {
+				int rgb = line[x];
+				int luma = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+				int cell = rowOffset + (int) ((long) x * columns / width);
+				sums[cell] += luma;
+				counts[cell]++;
+			}
+		}
+		long[] hash = new long[HASH_SIZE * HASH_SIZE / 64];
+		int bit = 0;
+		for (int row = 0; row < HASH_SIZE; row++) {
+			for (int column = 0; column < HASH_SIZE; column++, bit++) {
+				int cell = row * columns + column;
+				if (average(sums, counts, cell) > average(sums, counts, cell + 1)) {
+					hash[bit >>> 6] |= 1L << (bit & 63);
+				}
+			}
+		}
+		return hash;
+	}
+
+	private static long average(long[] sums, int[] counts, int cell) {
+		return counts[cell] == 0 ? 0 : sums[cell] / counts[cell];
+	}
+
+	private static BufferedImage downscale(BufferedImage image, int maxWidth) {
+		boolean opaqueFormat = !"png".equals(FORMAT);
+		if (image.getWidth() <= maxWidth && !(opaqueFormat && image.getColorModel().hasAlpha())) {
+			return image;
+		}
+		int width = Math.min(image.getWidth(), maxWidth);
+		int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+		// JPEG has no alpha channel, so draw onto an RGB image whatever the size
+		BufferedImage scaled = new BufferedImage(width, height,
+				opaqueFormat ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = scaled.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
+
+	private static void encode(BufferedImage image, ImageOutputStream out) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(FORMAT).next();
+		try {
+			writer.setOutput(out);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed() && !"png".equals(FORMAT)) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				if (param.getCompressionType() == null) {
+					param.setCompressionType(param.getCompressionTypes()[0]);
+				}
+				param.setCompressionQuality(Config.SCREENSHOT_QUALITY);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private static String formatOf(byte[] data) {
+		if (data.length > 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8) {
+			return "jpg";
+		}
+		if (data.length > 8 && (data[0] & 0xFF) == 0x89 && data[1] == 'P' && data[2] == 'N' && data[3] == 'G') {
+			return "png";
+		}
+		return null;
+	}
+
+	private static void link(Path path, Path target) throws IOException {
+		Files.deleteIfExists(path);
+		try {
+			Files.createLink(path, target);
+		} catch (IOException | UnsupportedOperationException e) {
+			// file systems without hard links get a copy
+			Files.copy(target, path, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static String resolveFormat(String configured) {
+		String format = configured.toLowerCase(Locale.ROOT);
+		if ("jpeg".equals(format)) {
+			format = "jpg";
+		}
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+		if (writers.hasNext()) {
+			return format;
+		}
+		logger.warn("No ImageIO writer for screenshot format {}; writing JPEG instead", configured);
+		return "jpg";
+	}
+}
@@ -1,12 +1,8 @@
 package com.seleniumFramework.utilities;
 
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebElement;
 import com.seleniumFramework.common.BaseClass;
 
-import java.io.File;
-import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,23 +17,36 @@ public class ScreenshotUtils {
 	/********************************************************************************************
      * Captures a screenshot of the current WebDriver instance.
      *
-     * @param driver   The WebDriver instance from which to capture the screenshot.
+     * The file is written in the background; the path is returned as soon as
+     * the browser has taken the screenshot.
+     *
      * @param testName The name of the test for which the screenshot is captured.
      * @return The file path where the screenshot is saved.
      *
      * @author Abhijeet Maske Created June 27,2023
-     * @version 1.0 June 27,2023
+     * @version 1.1 October 18, 2026
      ********************************************************************************************/
-    public static synchronized String captureScreenShot(String testName) {
-        String filePath = System.getProperty("user.dir") + "//screenshots//" + testName + ".png";
+    public static String captureScreenShot(String testName) {
         logger.info("Attempting to capture screenshot for test: {}", testName);
-        File src = ((TakesScreenshot) BaseClass.getDriver()).getScreenshotAs(OutputType.FILE);
-        try {
-            FileUtils.copyFile(src, new File(filePath));
-            logger.info("Screenshot successfully captured: {}", filePath);
-        } catch (IOException e) {
-        	logger.error("Failed to capture screenshot for test: {}. Error: {}", testName, e.getMessage(), e);
-        }
+        String filePath = ScreenshotService.capture(BaseClass.getDriver(), testName).getPath();
+        logger.info("Screenshot captured, saving in background: {}", filePath);
+        return filePath;
+    }
+
+	/********************************************************************************************
+     * Captures a screenshot of one element of the current WebDriver instance,
+     * typically the element a step acts on.
+     *
+     * @param element  The element to capture.
+     * @param testName The name of the test for which the screenshot is captured.
+     * @return The file path where the screenshot is saved.
+     *
+     * @author Abhijeet Maske Created October 18, 2026
+     * @version 1.0 October 18, 2026
+     ********************************************************************************************/
+    public static String captureElementScreenShot(WebElement element, String testName) {
+        String filePath = ScreenshotService.capture(BaseClass.getDriver(), element, testName).getPath();
+        logger.info("Element screenshot captured, saving in background: {}", filePath);
         return filePath;
     }
 }
@@ -0,0 +1,268 @@
+package com.seleniumFramework.utilities;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Explicit wait engine used instead of implicit waits and fixed sleeps.
+ *
+ * Conditions are evaluated immediately and then polled with an exponential
+ * backoff that starts at a few milliseconds. For every wait key (the locator
+ * being waited for, or a name given by the caller) the engine learns the typical time until the
+ * condition holds and sleeps close to that time before its first re-check, so
+ * slow elements do not cost a burst of useless roundtrips and fast elements
+ * are picked up within milliseconds. Time spent waiting is accumulated per
+ * thread so it can be reported per test.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public class SmartWait {
+
+	private static final Logger logger = LogManager.getLogger(SmartWait.class);
+	private static final long INITIAL_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.SMART_WAIT_INITIAL_POLL_MS);
+	private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.SMART_WAIT_MAX_POLL_MS);
+	private static final Map<String, LearnedLatency> learnedLatencies = new ConcurrentHashMap<>();
+	private static final ThreadLocal<long[]> waitedNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+	/********************************************************************************************
+	 * Waits until a condition returns a non-null, non-false value.
+	 *
+	 * @param driver    the WebDriver the condition is evaluated against
+	 * @param condition the condition, e.g. an ExpectedConditions factory result
+	 * @param timeout   the maximum time to wait
+	 * @param key       identifies what is waited for, used to learn its latency,
+	 *                  e.g. visible:By.id: login; null to wait without learning
+	 * @return the value returned by the condition
+	 * @throws TimeoutException if the condition is not met within the timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout,
+			String key) {
+		return until(driver, condition, timeout, Duration.ofNanos(MAX_POLL_NANOS), key);
+	}
+
+	/********************************************************************************************
+	 * Waits until a condition returns a non-null, non-false value, never polling
+	 * less often than the given maximum interval.
+	 *
+	 * @param driver      the WebDriver the condition is evaluated against
+	 * @param condition   the condition, e.g. an ExpectedConditions factory result
+	 * @param timeout     the maximum time to wait
+	 * @param maxPolling  the upper bound of the backoff interval
+	 * @param key         identifies what is waited for, used to learn its
+	 *                    latency; null to wait without learning
+	 * @return the value returned by the condition
+	 * @throws TimeoutException if the condition is not met within the timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static <T> T until(WebDriver driver, Function<? super WebDriver, T> condition, Duration timeout,
+			Duration maxPolling, String key) {
+		long start = System.nanoTime();
+		long deadline = start + timeout.toNanos();
+		long maxPollNanos = Math.max(INITIAL_POLL_NANOS, maxPolling.toNanos());
+		LearnedLatency learned = key == null ? null : learnedLatencies.get(key);
+		long interval = learned == null ? INITIAL_POLL_NANOS
+				: clamp(learned.expectedNanos() * 3 / 4, INITIAL_POLL_NANOS, maxPollNanos);
+		RuntimeException lastError = null;
+		try {
+			while (true) {
+				try {
+					T value = condition.apply(driver);
+					if (value != null && !Boolean.FALSE.equals(value)) {
+						if (key != null) {
+							learn(key, System.nanoTime() - start);
+						}
+						return value;
+					}
+				} catch (NoSuchElementException | StaleElementReferenceException e) {
+					lastError = e;
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					String waitedFor = key != null ? key : String.valueOf(condition);
+					logger.debug("Gave up waiting for {} after {} ms", waitedFor, waitedMillis);
+					throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms)",
+							waitedFor, waitedMillis), lastError);
+				}
+				sleepNanos(Math.min(interval, remaining));
+				interval = Math.min(interval * 2, maxPollNanos);
+			}
+		} finally {
+			waitedNanos.get()[0] += System.nanoTime() - start;
+		}
+	}
+
+	/********************************************************************************************
+	 * Waits until the element is displayed.
+	 *
+	 * @param driver     the WebDriver owning the element
+	 * @param webElement the element to wait for
+	 * @param timeout    the maximum time to wait
+	 * @return the visible element
+	 * @throws TimeoutException if the element is not visible within the timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static WebElement visible(WebDriver driver, WebElement webElement, Duration timeout) {
+		return until(driver, d -> webElement.isDisplayed() ? webElement : null, timeout, keyFor("visible", webElement));
+	}
+
+	/********************************************************************************************
+	 * Waits until the element is displayed and enabled.
+	 *
+	 * @param driver     the WebDriver owning the element
+	 * @param webElement the element to wait for
+	 * @param timeout    the maximum time to wait
+	 * @return the clickable element
+	 * @throws TimeoutException if the element is not clickable within the timeout
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static WebElement clickable(WebDriver driver, WebElement webElement, Duration timeout) {
+		return until(driver, d -> webElement.isDisplayed() && webElement.isEnabled() ? webElement : null, timeout,
+				keyFor("clickable", webElement));
+	}
+
+	/********************************************************************************************
+	 * Waits until the current document has finished loading.
+	 *
+	 * @param driver  the WebDriver whose document is checked
+	 * @param timeout the maximum time to wait
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void forPageLoad(WebDriver driver, Duration timeout) {
+		until(driver,
+				d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState;")),
+				timeout, "document.readyState=complete");
+	}
+
+	/********************************************************************************************
+	 * Builds a wait key for an element from its locator, without a browser
+	 * roundtrip and the same whether or not the element is on the page yet.
+	 * Elements whose locator is not known locally, such as plain PageFactory
+	 * proxies, get no key and are waited for without learning; initialise page
+	 * objects through {@link PageElements#initElements} to have them learned.
+	 *
+	 * @param prefix     what is waited for, e.g. visible
+	 * @param webElement the element
+	 * @return the wait key, or null if the element's locator is not known
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.1 October 18, 2026
+	 ********************************************************************************************/
+	public static String keyFor(String prefix, WebElement webElement) {
+		String locator = PageElements.locatorOf(webElement);
+		return locator == null ? null : prefix + ":" + locator;
+	}
+
+	/********************************************************************************************
+	 * Records a fixed sleep so that it shows up in the per-test wait time.
+	 *
+	 * @param millis the time slept in milliseconds
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void recordSleep(long millis) {
+		waitedNanos.get()[0] += TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	/********************************************************************************************
+	 * Returns the time the calling thread spent waiting since the last reset and
+	 * starts a new measurement.
+	 *
+	 * @return the accumulated wait time in milliseconds
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static long resetWaitedMillis() {
+		long[] waited = waitedNanos.get();
+		long millis = TimeUnit.NANOSECONDS.toMillis(waited[0]);
+		waited[0] = 0;
+		return millis;
+	}
+
+	/********************************************************************************************
+	 * Summarises the learned latency of every wait key.
+	 *
+	 * @return one line per key with sample count and typical latency
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String learnedLatencies() {
+		StringBuilder summary = new StringBuilder("Learned wait latencies:");
+		for (Map.Entry<String, LearnedLatency> entry : new TreeMap<>(learnedLatencies).entrySet()) {
+			summary.append(System.lineSeparator()).append("  ").append(entry.getKey()).append(": ")
+					.append(entry.getValue());
+		}
+		return summary.toString();
+	}
+
+	private static void learn(String key, long elapsedNanos) {
+		learnedLatencies.computeIfAbsent(key, k -> new LearnedLatency()).add(elapsedNanos);
+	}
+
+	private static long clamp(long value, long min, long max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
+	private static void sleepNanos(long nanos) {
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException("Interrupted while waiting", e);
+		}
+	}
+
+	/**
+	 * Exponentially weighted moving average of the time a condition took to hold.
+	 */
+	private static final class LearnedLatency {
+		private long samples;
+		private double averageNanos;
+
+		synchronized void add(long nanos) {
+			averageNanos = samples == 0 ? nanos : averageNanos * 0.7 + nanos * 0.3;
+			samples++;
+		}
+
+		synchronized long expectedNanos() {
+			return (long) averageNanos;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("samples=%d, typical=%d ms", samples,
+					TimeUnit.NANOSECONDS.toMillis((long) averageNanos));
+		}
+	}
+}
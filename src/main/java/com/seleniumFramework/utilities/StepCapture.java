@@ -0,0 +1,190 @@
+package com.seleniumFramework.utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Takes step screenshots after {@link ElementInteractionUtils} actions
+ * according to the current {@link ScreenshotPolicy}.
+ *
+ * With {@code laststep} and {@code laststeps} the screenshots of the most
+ * recent steps of each thread are only held in memory, in a ring that drops
+ * the oldest, and are written through {@link ScreenshotService} when the test
+ * fails; a passing test costs no disk I/O at all. {@code everystep} and
+ * {@code sampled} hand the screenshots to ScreenshotService straight away.
+ *
+ * When {@link Config#SCREENSHOT_STEP_ELEMENT_ONLY} is set, a step acting on an
+ * element captures only that element, falling back to the viewport if the
+ * element is gone, e.g. after a click that navigated away. Taking a screenshot
+ * never fails the step.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class StepCapture {
+
+	private static final Logger logger = LogManager.getLogger(StepCapture.class);
+
+	private static final ThreadLocal<Steps> steps = ThreadLocal.withInitial(Steps::new);
+	private static volatile ScreenshotPolicy policy = ScreenshotPolicy.fromName(Config.SCREENSHOT_CAPTURE);
+	private static final AtomicLong stepsSeen = new AtomicLong();
+	private static final AtomicLong taken = new AtomicLong();
+	private static final AtomicLong saved = new AtomicLong();
+	private static final AtomicLong discarded = new AtomicLong();
+	private static final AtomicLong failed = new AtomicLong();
+
+	private StepCapture() {
+	}
+
+	/** A step screenshot held in memory. */
+	private static final class Frame {
+		private final String base64;
+		private final String label;
+
+		private Frame(String base64, String label) {
+			this.base64 = base64;
+			this.label = label;
+		}
+	}
+
+	/** The step count and recent step screenshots of one thread. */
+	private static final class Steps {
+		private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+		private long count;
+	}
+
+	/********************************************************************************************
+	 * Sets the capture policy for the rest of the run.
+	 *
+	 * @param newPolicy the capture policy
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void setPolicy(ScreenshotPolicy newPolicy) {
+		policy = newPolicy;
+		logger.info("Screenshot capture policy set to: {}", newPolicy);
+	}
+
+	public static ScreenshotPolicy getPolicy() {
+		return policy;
+	}
+
+	/********************************************************************************************
+	 * Records a completed step and takes its screenshot if the policy asks for
+	 * one.
+	 *
+	 * @param driver  the driver the step acted on
+	 * @param element the element the step acted on, or null for page-level steps
+	 *                such as navigation
+	 * @param action  the name of the step, used in the file name
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	static void afterStep(WebDriver driver, WebElement element, String action) {
+		ScreenshotPolicy current = policy;
+		if (current == ScreenshotPolicy.NONE) {
+			return;
+		}
+		stepsSeen.incrementAndGet();
+		Steps thread = steps.get();
+		thread.count++;
+		if (current == ScreenshotPolicy.SAMPLED && thread.count % Math.max(1, Config.SCREENSHOT_SAMPLE_EVERY) != 0) {
+			return;
+		}
+		try {
+			long start = System.nanoTime();
+			String base64 = take(driver, element);
+			taken.incrementAndGet();
+			int keep = current.recentSteps();
+			if (keep == 0) {
+				ScreenshotService.store(base64, action, start);
+				saved.incrementAndGet();
+				return;
+			}
+			thread.recent.addLast(new Frame(base64, action));
+			while (thread.recent.size() > keep) {
+				thread.recent.removeFirst();
+				discarded.incrementAndGet();
+			}
+		} catch (WebDriverException e) {
+			failed.incrementAndGet();
+			logger.debug("Could not take a screenshot of step {}: {}", action, e.getMessage());
+		}
+	}
+
+	/********************************************************************************************
+	 * Saves the step screenshots held in memory for the calling thread, oldest
+	 * first. Called when a test fails.
+	 *
+	 * @return the saved screenshots, in step order; empty if none were held
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static List<ScreenshotService.Capture> saveRecentSteps() {
+		ArrayDeque<Frame> recent = steps.get().recent;
+		if (recent.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<ScreenshotService.Capture> captures = new ArrayList<>(recent.size());
+		for (Frame frame : recent) {
+			captures.add(ScreenshotService.store(frame.base64, frame.label, System.nanoTime()));
+		}
+		saved.addAndGet(recent.size());
+		recent.clear();
+		return captures;
+	}
+
+	/********************************************************************************************
+	 * Forgets the steps of the calling thread's test. Called when a test ends,
+	 * after a failed test saved its steps.
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void endTest() {
+		Steps thread = steps.get();
+		discarded.addAndGet(thread.recent.size());
+		steps.remove();
+	}
+
+	/********************************************************************************************
+	 * Summarises the step screenshots: how many steps ran, how many
+	 * screenshots were taken, saved or discarded without touching the disk.
+	 *
+	 * @return the step capture statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static String stats() {
+		return String.format("Step screenshots (%s): %d step(s), %d taken, %d saved, %d discarded, %d failed",
+				policy, stepsSeen.get(), taken.get(), saved.get(), discarded.get(), failed.get());
+	}
+
+	private static String take(WebDriver driver, WebElement element) {
+		if (element != null && Config.SCREENSHOT_STEP_ELEMENT_ONLY) {
+			try {
+				return ScreenshotService.take(driver, element);
+			} catch (WebDriverException e) {
+				// stale or hidden after the step, e.g. a click that left the page
+				logger.debug("Element gone after step, capturing the viewport instead: {}", e.getMessage());
+			}
+		}
+		return ScreenshotService.take(driver, null);
+	}
+}
@@ -0,0 +1,85 @@
+package com.seleniumFramework.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.util.Unbox;
+
+/**
+ * Structured log events for test steps.
+ *
+ * Every step is logged as one line of fixed fields,
+ * {@code step action=... target=... outcome=... durationMs=...}, on the
+ * {@value #LOGGER_NAME} logger with the {@code STEP} marker, which the shipped
+ * log4j2.xml also writes to {@code logs/steps.log}. The fields are passed as
+ * parameters rather than concatenated into a string, and the duration is boxed
+ * through Log4j's {@link Unbox}, so with the shipped garbage-free, asynchronous
+ * configuration logging a step allocates nothing on the test thread beyond the
+ * target's description, and costs nothing when the level is disabled. Targets
+ * are descriptions such as a locator from {@link PageElements#describe}, never
+ * the element itself: a PageFactory proxy looks the element up in the browser
+ * to answer {@code toString()}.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class StepEvent {
+
+	public static final String LOGGER_NAME = "com.seleniumFramework.steps";
+	public static final Marker STEP = MarkerManager.getMarker("STEP");
+
+	private static final Logger logger = LogManager.getLogger(LOGGER_NAME);
+	private static final String PASSED = "step action={} target={} outcome=passed durationMs={}";
+	private static final String FAILED = "step action={} target={} outcome=failed durationMs={} error={}";
+
+	private StepEvent() {
+	}
+
+	/** Start time of a step, to pass to {@link #passed} or {@link #failed}. */
+	public static long start() {
+		return System.nanoTime();
+	}
+
+	/********************************************************************************************
+	 * Logs a step that succeeded, at INFO.
+	 *
+	 * @param action     what the step did, e.g. click
+	 * @param target     the locator or value the step acted on, or null
+	 * @param startNanos the value of {@link #start()} when the step began
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void passed(String action, Object target, long startNanos) {
+		if (logger.isInfoEnabled(STEP)) {
+			logger.info(STEP, PASSED, action, target, Unbox.box(elapsedMillis(startNanos)));
+		}
+	}
+
+	/********************************************************************************************
+	 * Logs a step that failed, at ERROR, with the stack trace of the error.
+	 *
+	 * @param action     what the step did, e.g. click
+	 * @param target     the locator or value the step acted on, or null
+	 * @param startNanos the value of {@link #start()} when the step began
+	 * @param error      why the step failed, or null
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static void failed(String action, Object target, long startNanos, Throwable error) {
+		if (logger.isErrorEnabled(STEP)) {
+			// a trailing Throwable is logged as the stack trace, not as a field
+			logger.error(STEP, FAILED, action, target, Unbox.box(elapsedMillis(startNanos)),
+					error == null ? null : error.getClass().getSimpleName(), error);
+		}
+	}
+
+	private static long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
@@ -0,0 +1,164 @@
+package com.seleniumFramework.utilities;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-memory snapshot of the body rows of an HTML table.
+ *
+ * The texts of all cells and the handles of all rows of the first
+ * {@code tbody} are extracted with a single JavaScript call, so searching and
+ * counting a table page costs one WebDriver roundtrip instead of one per cell.
+ * Only acting on a matched row goes back to the browser. Row and column
+ * indexes are 1-based, matching {@code tbody/tr[i]/td[j]} XPath expressions.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class TableGrid {
+
+	private static final Logger logger = LogManager.getLogger(TableGrid.class);
+	private static final String EXTRACT_SCRIPT = "var table = arguments[0].nodeType ? arguments[0]"
+			+ " : document.getElementById(arguments[0]);"
+			+ "if (!table) { return null; }"
+			+ "var body = table.tBodies.length ? table.tBodies[0] : table;"
+			+ "var rows = [], texts = [];"
+			+ "for (var i = 0; i < body.rows.length; i++) {"
+			+ "  var tr = body.rows[i], cells = [];"
+			+ "  for (var j = 0; j < tr.children.length; j++) {"
+			+ "    if (tr.children[j].tagName === 'TD') { cells.push((tr.children[j].innerText || '').trim()); }"
+			+ "  }"
+			+ "  rows.push(tr); texts.push(cells);"
+			+ "}"
+			+ "return [rows, texts, table.getElementsByTagName('tr').length];";
+
+	private final List<WebElement> rows;
+	private final List<List<String>> cells;
+	private final int tableRowCount;
+
+	private TableGrid(List<WebElement> rows, List<List<String>> cells, int tableRowCount) {
+		this.rows = rows;
+		this.cells = cells;
+		this.tableRowCount = tableRowCount;
+	}
+
+	/********************************************************************************************
+	 * Extracts the current page of the table with the given id.
+	 *
+	 * @param driver  the WebDriver showing the table
+	 * @param tableId the id attribute of the table element
+	 * @return the extracted grid
+	 * @throws NoSuchElementException if no table has the given id
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static TableGrid extract(WebDriver driver, String tableId) {
+		return extract(driver, (Object) tableId, "#" + tableId);
+	}
+
+	/********************************************************************************************
+	 * Extracts the current page of the given table element.
+	 *
+	 * @param driver the WebDriver showing the table
+	 * @param table  the table element
+	 * @return the extracted grid
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public static TableGrid extract(WebDriver driver, WebElement table) {
+		return extract(driver, table, String.valueOf(table));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TableGrid extract(WebDriver driver, Object table, String description) {
+		long start = System.nanoTime();
+		List<Object> result = (List<Object>) ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, table);
+		if (result == null) {
+			throw new NoSuchElementException("Unable to locate table: " + description);
+		}
+		TableGrid grid = new TableGrid((List<WebElement>) result.get(0), (List<List<String>>) result.get(1),
+				((Number) result.get(2)).intValue());
+		logger.info("Extracted {} row(s) from table {} in {} ms", grid.rowCount(), description,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return grid;
+	}
+
+	public int rowCount() {
+		return rows.size();
+	}
+
+	/** Number of tr elements anywhere in the table, header and footer rows included. */
+	public int tableRowCount() {
+		return tableRowCount;
+	}
+
+	/********************************************************************************************
+	 * Returns the text of a cell.
+	 *
+	 * @param rowIndex    1-based row index
+	 * @param columnIndex 1-based td index
+	 * @return the cell text, or null if the row has no such column
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public String cellText(int rowIndex, int columnIndex) {
+		List<String> rowCells = rowIndex >= 1 && rowIndex <= cells.size() ? cells.get(rowIndex - 1)
+				: Collections.emptyList();
+		return columnIndex >= 1 && columnIndex <= rowCells.size() ? rowCells.get(columnIndex - 1) : null;
+	}
+
+	public WebElement row(int rowIndex) {
+		return rows.get(rowIndex - 1);
+	}
+
+	/********************************************************************************************
+	 * Looks up a cell element in the browser. Costs one roundtrip, so it is meant
+	 * for acting on a matched row only.
+	 *
+	 * @param rowIndex    1-based row index
+	 * @param columnIndex 1-based td index
+	 * @return the cell element
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public WebElement cell(int rowIndex, int columnIndex) {
+		return row(rowIndex).findElement(By.xpath("./td[" + columnIndex + "]"));
+	}
+
+	/********************************************************************************************
+	 * Finds the first row at or after {@code fromRow} whose cell in the given
+	 * column matches.
+	 *
+	 * @param columnIndex 1-based td index
+	 * @param matcher     the condition on the cell text
+	 * @param fromRow     1-based row index to start at
+	 * @return the 1-based index of the matching row, or -1 if none matches
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public int findRow(int columnIndex, Predicate<String> matcher, int fromRow) {
+		for (int i = Math.max(1, fromRow); i <= rowCount(); i++) {
+			String text = cellText(i, columnIndex);
+			if (text != null && matcher.test(text)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
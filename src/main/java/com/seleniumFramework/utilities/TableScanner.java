@@ -0,0 +1,242 @@
+package com.seleniumFramework.utilities;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.seleniumFramework.common.Config;
+
+/**
+ * Streams the body rows of a paginated HTML table across all of its pages.
+ *
+ * Pages are extracted lazily with {@link TableGrid}, one script call per page,
+ * and the next page is only requested once every row of the current page has
+ * been consumed, so a search that stops at the first match never clicks
+ * further than it has to. Before the next button is clicked a
+ * MutationObserver is armed on the table; the scanner then waits for the table
+ * to change and settle instead of sleeping or re-finding rows. A next button
+ * that is disabled (disabled property, aria-disabled, or a disabled class on
+ * the button or its enclosing li) ends the scan.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public final class TableScanner implements Iterable<TableScanner.Row> {
+
+	private static final Logger logger = LogManager.getLogger(TableScanner.class);
+	private static final String ARM_NEXT_PAGE_SCRIPT = "var table = document.getElementById(arguments[0]), next = arguments[1];"
+			+ "if (!table || !next) { return false; }"
+			+ "var li = next.closest ? next.closest('li') : null;"
+			+ "if (next.disabled || next.getAttribute('aria-disabled') === 'true' || next.classList.contains('disabled')"
+			+ "    || (li && li.classList.contains('disabled'))) { return false; }"
+			+ "if (table.__sfObserver) { table.__sfObserver.disconnect(); }"
+			+ "var state = table.__sfPage = { changed: false, last: 0 };"
+			+ "table.__sfObserver = new MutationObserver(function() { state.changed = true; state.last = Date.now(); });"
+			+ "table.__sfObserver.observe(table, { childList: true, subtree: true, characterData: true });"
+			+ "window.__sfScannedTable = table;"
+			+ "next.scrollIntoView({ block: 'center' });"
+			+ "return true;";
+	private static final String AWAIT_PAGE_CHANGE_SCRIPT = "var table = window.__sfScannedTable, settle = arguments[0],"
+			+ " timeout = arguments[1], done = arguments[arguments.length - 1], start = Date.now(), replacedAt = 0;"
+			+ "(function check() {"
+			+ "  var now = Date.now(), state = table && table.__sfPage;"
+			+ "  if (!table || !document.contains(table)) { replacedAt = replacedAt || now; }"
+			+ "  if ((replacedAt && now - replacedAt >= settle) || (state && state.changed && now - state.last >= settle)) {"
+			+ "    if (table && table.__sfObserver) { table.__sfObserver.disconnect(); }"
+			+ "    done(true); return;"
+			+ "  }"
+			+ "  if (now - start >= timeout) { done(false); return; }"
+			+ "  setTimeout(check, 10);"
+			+ "})();";
+
+	private final WebDriver driver;
+	private final String tableId;
+	private final WebElement nextButton;
+	private TableGrid firstPage;
+	private long startNanos;
+	private long endNanos;
+	private int pages;
+	private long rows;
+
+	/********************************************************************************************
+	 * Creates a scanner for the table with the given id.
+	 *
+	 * @param driver     the WebDriver showing the table
+	 * @param tableId    the id attribute of the table element
+	 * @param nextButton the button that shows the next page, or null for a table
+	 *                   without pagination
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public TableScanner(WebDriver driver, String tableId, WebElement nextButton) {
+		this.driver = driver;
+		this.tableId = tableId;
+		this.nextButton = nextButton;
+	}
+
+	/********************************************************************************************
+	 * Returns the rows of all pages as a lazy, sequential stream.
+	 *
+	 * @return the table rows, page by page
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public Stream<Row> rows() {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	@Override
+	public Iterator<Row> iterator() {
+		return new Iterator<Row>() {
+			private TableGrid grid;
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				if (grid == null) {
+					// a page already extracted by firstPage() is handed over, not read again
+					if (firstPage != null) {
+						grid = firstPage;
+						firstPage = null;
+					} else {
+						startNanos = System.nanoTime();
+						grid = loadPage();
+					}
+				}
+				while (index >= grid.rowCount()) {
+					if (grid.rowCount() == 0 || !nextPage()) {
+						endNanos = System.nanoTime();
+						return false;
+					}
+					grid = loadPage();
+					index = 0;
+				}
+				return true;
+			}
+
+			@Override
+			public Row next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException("No more rows in table: " + tableId);
+				}
+				rows++;
+				return new Row(grid, ++index, pages);
+			}
+		};
+	}
+
+	/********************************************************************************************
+	 * Returns the page the scan starts on, extracting it if no scan has started
+	 * yet. The next scan starts from this page instead of extracting it again,
+	 * so checking the table before scanning it costs no extra roundtrip.
+	 *
+	 * @return the first page of the table
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public TableGrid firstPage() {
+		if (firstPage == null) {
+			startNanos = System.nanoTime();
+			firstPage = loadPage();
+		}
+		return firstPage;
+	}
+
+	/********************************************************************************************
+	 * Summarises the scan so far: pages and rows read and the throughput.
+	 *
+	 * @return the scan statistics
+	 *
+	 * @author Abhijeet Maske Created October 18, 2026
+	 * @version 1.0 October 18, 2026
+	 ********************************************************************************************/
+	public String stats() {
+		long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+		double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+		return String.format("Table %s scanned: %d page(s), %d row(s) in %d ms (%.1f rows/sec)", tableId, pages,
+				rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows / seconds);
+	}
+
+	private TableGrid loadPage() {
+		pages++;
+		return TableGrid.extract(driver, tableId);
+	}
+
+	private boolean nextPage() {
+		if (nextButton == null) {
+			return false;
+		}
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		if (!Boolean.TRUE.equals(js.executeScript(ARM_NEXT_PAGE_SCRIPT, tableId, nextButton))) {
+			logger.info("Reached the last page of table {}", tableId);
+			return false;
+		}
+		nextButton.click();
+		Object changed = js.executeAsyncScript(AWAIT_PAGE_CHANGE_SCRIPT, Config.TABLE_PAGE_SETTLE_MS,
+				TimeUnit.SECONDS.toMillis(Config.MEDIUM_PAUSE));
+		if (!Boolean.TRUE.equals(changed)) {
+			logger.warn("Table {} did not change after clicking next, stopping the scan", tableId);
+			return false;
+		}
+		logger.info("Next button clicked, checking the next set of entries");
+		return true;
+	}
+
+	/**
+	 * One body row of a scanned table page.
+	 */
+	public static final class Row {
+		private final TableGrid grid;
+		private final int index;
+		private final int page;
+
+		private Row(TableGrid grid, int index, int page) {
+			this.grid = grid;
+			this.index = index;
+			this.page = page;
+		}
+
+		/** 1-based row index within its page, matching tbody/tr[i]. */
+		public int getIndex() {
+			return index;
+		}
+
+		/** 1-based page number. */
+		public int getPage() {
+			return page;
+		}
+
+		/** Cell text of the 1-based td column, or null if the row has no such column. */
+		public String text(int columnIndex) {
+			return grid.cellText(index, columnIndex);
+		}
+
+		/** Looks up the cell element in the browser; costs one roundtrip. */
+		public WebElement cell(int columnIndex) {
+			return grid.cell(index, columnIndex);
+		}
+
+		public WebElement element() {
+			return grid.row(index);
+		}
+
+		public TableGrid getGrid() {
+			return grid;
+		}
+	}
+}
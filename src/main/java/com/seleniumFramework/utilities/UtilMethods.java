@@ -1,12 +1,8 @@
 package com.seleniumFramework.utilities;
 
-import java.io.File;
 import java.io.IOException;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 /**
@@ -16,7 +12,9 @@ public class UtilMethods {
 	private static final Logger logger = LogManager.getLogger(UtilMethods.class);
 
 	/********************************************************************************************
-	 * Captures a screenshot of the current WebDriver instance.
+	 * Captures a screenshot of the current WebDriver instance and waits until it
+	 * is saved. Use {@link ScreenshotService#capture} to continue while the file
+	 * is written.
 	 *
 	 * @param driver   The WebDriver instance from which to capture the screenshot.
 	 * @param testName The name of the test for which the screenshot is captured.
@@ -25,30 +23,14 @@ public class UtilMethods {
 	 *                     screenshot.
 	 *
 	 * @author Abhijeet Maske Created June 27,2023
-	 * @version 1.0 June 27,2023
+	 * @version 1.1 October 18, 2026
 	 ********************************************************************************************/
-	public static synchronized String captureScreenShot(WebDriver driver, String testName) throws IOException {
-		// Convert WebDriver object to TakesScreenshot interface
-		TakesScreenshot screenshot = (TakesScreenshot) driver;
-
-		// Call getScreenshotAs method to create an image file
-		File src = screenshot.getScreenshotAs(OutputType.FILE);
-
-		// Get the current working directory
-		String userDir = System.getProperty("user.dir");
-		// Construct the path to the screenshots directory
-		String destPath = userDir + "\\screenshots\\" + testName + ".png";
-		File dest = new File(destPath);
-
+	public static String captureScreenShot(WebDriver driver, String testName) throws IOException {
 		try {
-			// Copy image file to the destination
-			FileUtils.copyFile(src, dest);
-			logger.info("Screenshot captured for test: {} at path: {}", testName, destPath);
+			return ScreenshotService.capture(driver, testName).await();
 		} catch (IOException e) {
 			logger.error("Failed to capture screenshot for test: {}", testName, e);
 			throw e;
 		}
-
-		return destPath;
 	}
 }
\ No newline at end of file
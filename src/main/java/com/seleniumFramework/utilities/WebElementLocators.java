@@ -1,17 +1,14 @@
 package com.seleniumFramework.utilities;
 
 import java.time.Duration;
-import java.util.NoSuchElementException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.*;
 
-import com.seleniumFramework.common.BaseClass;
 import com.seleniumFramework.common.Config;
 /**
  * Utility class for locating and interacting with web elements. Requires a
@@ -29,39 +26,39 @@ import com.seleniumFramework.common.Config;
  */
 public class WebElementLocators {
 	private static final Logger logger = LogManager.getLogger(WebElementLocators.class);
-	private static WebDriverWait wait;
 	static Duration timeout = Duration.ofSeconds(Config.MEDIUM_PAUSE);
 	static Duration polling = Duration.ofMillis(Config.POLLING_TIME);
-	public static WebDriver driver;
-	static private Actions action;
 
 	/**
-	 * Constructor for WebElementLocators. Initializes the WebDriver instance and
-	 * sets up the wait and actions utilities.
+	 * Constructor for WebElementLocators. Binds the WebDriver to the calling
+	 * thread unless the thread already has a driver leased through BaseClass.
 	 * 
 	 * @param webDriver The WebDriver instance to be used by this class.
 	 */
 	public WebElementLocators(WebDriver webDriver) {
-		driver = BaseClass.getDriver();
-		if (driver == null) {
+		if (webDriver != null) {
+			InteractionContext.bind(webDriver);
+		}
+		if (!InteractionContext.isBound()) {
 			logger.error("WebDriver is null in WebElementLocators  constructor.");
 			throw new IllegalStateException("WebDriver is null in WebElementLocators  constructor.");
 		} else {
-			logger.info("WebDriver initialized in WebElementLocators: {}", driver);
+			logger.info("WebDriver initialized in WebElementLocators: {}", driver());
 		}
-		setWait(driver);
-		WebElementLocators.action = new Actions(driver);
 	}
 
-	private static void setWait(WebDriver driver) {
-		wait = new WebDriverWait(driver, Duration.ofSeconds(10)); // Setting in a static method
+	/**
+	 * The driver of the calling thread; see {@link InteractionContext}.
+	 */
+	private static WebDriver driver() {
+		return InteractionContext.current().getDriver();
 	}
 
 	/********************************************************************************************
 	 * Finds a web element using the specified locator and waits until the element
 	 * is present within the given timeout period.
 	 * 
-	 * This method uses a FluentWait to wait for the presence of the element located
+	 * This method uses SmartWait to wait for the presence of the element located
 	 * by the provided `By` locator. If the element is found within the timeout
 	 * period, it is returned.
 	 * 
@@ -75,9 +72,8 @@ public class WebElementLocators {
 	public static WebElement findElement(By byElement, Duration timeout) {
 		WebElement webElement = null;
 		try {
-			FluentWait<WebDriver> fluentWait = new FluentWait<>(driver).withTimeout(timeout)
-					.ignoring(NoSuchElementException.class);
-			webElement = fluentWait.until(ExpectedConditions.presenceOfElementLocated(byElement));
+			webElement = SmartWait.until(driver(), ExpectedConditions.presenceOfElementLocated(byElement), timeout,
+					"present:" + byElement);
 			logger.info("Element is visible: {}", byElement);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -90,7 +86,8 @@ public class WebElementLocators {
 	 * Finds a web element based on its tag name and the text it contains.
 	 * 
 	 * This method constructs an XPath expression using the provided tag name and
-	 * text, then finds and returns the matching web element.
+	 * text, then finds and returns the matching web element. Repeated lookups on
+	 * the same page are served from the LocatorCache.
 	 * 
 	 * @param tagName the tag name of the web element
 	 * @param text    the text contained within the web element
@@ -103,7 +100,7 @@ public class WebElementLocators {
 		WebElement webElement = null;
 		String xpathExpression = String.format("//%s[contains(text(),'%s')]", tagName, text);
 		try {
-			webElement = driver.findElement(By.xpath(xpathExpression));
+			webElement = LocatorCache.forDriver(driver()).find(By.xpath(xpathExpression));
 			logger.info("Element found with tag name: {} and text: {}", tagName, text);
 		} catch (Exception e) {
 			logger.error("Error locating element with tag name: {} and text: {}", tagName, text, e);
@@ -116,8 +113,9 @@ public class WebElementLocators {
 	 * Finds a web element using an XPath expression and waits until the element is
 	 * visible.
 	 * 
-	 * This method uses a `WebDriverWait` to wait for the visibility of the element
-	 * located by the provided XPath expression within a small timeout period.
+	 * This method uses SmartWait to wait for the visibility of the element located
+	 * by the provided XPath expression within a small timeout period. The element
+	 * is resolved through the LocatorCache.
 	 * 
 	 * @param text the XPath expression used to locate the web element
 	 * @return the found `WebElement`, or `null` if the element is not found
@@ -128,10 +126,13 @@ public class WebElementLocators {
 	 * @version 1.0 August 17, 2024
 	 ********************************************************************************************/
 	public static WebElement xpathBytext(String text) {
-		Duration XSMALL_PAUSE = Duration.ofSeconds(Config.XSMALL_PAUSE);
-		wait = new WebDriverWait(driver, XSMALL_PAUSE);
+		By locator = By.xpath(text);
+		LocatorCache locatorCache = LocatorCache.forDriver(driver());
 		try {
-			WebElement webElement = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(text)));
+			WebElement webElement = SmartWait.until(driver(), d -> {
+				WebElement candidate = locatorCache.find(locator);
+				return candidate.isDisplayed() ? candidate : null;
+			}, Duration.ofSeconds(Config.XSMALL_PAUSE), "visible:" + locator);
 			return webElement;
 		} catch (Exception e) {
 			System.out.println("Error in xpath by text: " + e.getMessage());
@@ -143,7 +144,8 @@ public class WebElementLocators {
 	 * Finds a web element using its class name and the exact text it contains.
 	 * 
 	 * This method constructs an XPath expression using the provided class name and
-	 * text, then finds and returns the matching web element.
+	 * text, then finds and returns the matching web element. Repeated lookups on
+	 * the same page are served from the LocatorCache.
 	 * 
 	 * @param className the class name of the web element
 	 * @param text      the exact text contained within the web element
@@ -156,7 +158,7 @@ public class WebElementLocators {
 		WebElement element = null;
 		String xpathExpression = "//*[@class='" + className + "' and text()='" + text + "']";
 		try {
-			element = driver.findElement(By.xpath(xpathExpression));
+			element = LocatorCache.forDriver(driver()).find(By.xpath(xpathExpression));
 			logger.info("Element found with class name: {} and text: {}", className, text);
 		} catch (Exception e) {
 			logger.error("Error locating element with class name: {} and text: {}", className, text, e);
@@ -169,7 +171,8 @@ public class WebElementLocators {
 	 * Finds a web element using its id and the exact text it contains.
 	 * 
 	 * This method constructs an XPath expression using the provided id and text,
-	 * then finds and returns the matching web element.
+	 * then finds and returns the matching web element. Repeated lookups on the
+	 * same page are served from the LocatorCache.
 	 * 
 	 * @param id   the id attribute of the web element
 	 * @param text the exact text contained within the web element
@@ -184,7 +187,7 @@ public class WebElementLocators {
 		String xpathExpression = "//*[@id='" + id + "' and text()='" + text + "']";
 		WebElement webElement = null;
 		try {
-			webElement = driver.findElement(By.xpath(xpathExpression));
+			webElement = LocatorCache.forDriver(driver()).find(By.xpath(xpathExpression));
 			logger.info("Element found with id: {} and text: {}", id, text);
 		} catch (Exception e) {
 			logger.error("Error in locating element with id: {} and text: {}", id, text, e);
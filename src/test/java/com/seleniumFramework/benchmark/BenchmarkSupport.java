@@ -0,0 +1,70 @@
+package com.seleniumFramework.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.seleniumFramework.utilities.ExcelSheetReader;
+
+/**
+ * Measurement and read helpers shared by the Excel benchmarks.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * Runs the task once and prints its wall time and the peak heap growth over
+	 * the heap in use before it started, sampled every 2 ms.
+	 */
+	static <T> T measure(String name, Callable<T> task) throws Exception {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		long baseline = memory.getHeapMemoryUsage().getUsed();
+		AtomicLong peak = new AtomicLong(baseline);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread sampler = new Thread(() -> {
+			while (running.get()) {
+				peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+		sampler.setDaemon(true);
+		sampler.start();
+		long start = System.nanoTime();
+		T result = task.call();
+		long elapsed = System.nanoTime() - start;
+		running.set(false);
+		sampler.join();
+		System.out.printf("%-34s %6d ms, peak heap +%d MB%n", name, TimeUnit.NANOSECONDS.toMillis(elapsed),
+				(peak.get() - baseline) / (1024 * 1024));
+		return result;
+	}
+
+	/**
+	 * The parse DataProviderUtils runs on a cache miss, without ExcelSheetCache,
+	 * which would also hash the workbook and write a snapshot next to it.
+	 */
+	static Object[][] streamedRead(String filePath, String sheetName) throws IOException {
+		List<Object[]> rows = new ArrayList<>();
+		try (ExcelSheetReader reader = ExcelSheetReader.open(filePath, sheetName)) {
+			reader.forEachRow(row -> rows.add(row.toArray()));
+		}
+		return rows.toArray(new Object[0][]);
+	}
+}
@@ -0,0 +1,130 @@
+package com.seleniumFramework.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import com.seleniumFramework.utilities.ExcelSheetReader;
+
+/**
+ * Compares the workbook based Excel read path with the streaming
+ * {@link ExcelSheetReader} for wall time and peak heap, and checks that both
+ * produce identical rows.
+ *
+ * Usage: {@code ExcelReadBenchmark [rows]} (default 50000). Run with a fixed
+ * heap, e.g. {@code -Xmx1g}, so the peak heap numbers are comparable.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public class ExcelReadBenchmark {
+
+	private static final String SHEET = "Data";
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+		File file = File.createTempFile("excel-read-benchmark", ".xlsx");
+		file.deleteOnExit();
+		generate(file, rows);
+		System.out.printf("Workbook with %d rows: %s (%d KB)%n", rows, file, file.length() / 1024);
+
+		String path = file.getAbsolutePath();
+		Object[][] legacy = BenchmarkSupport.measure("XSSFWorkbook (legacy)", () -> legacyRead(path, SHEET));
+		Object[][] streamed = BenchmarkSupport.measure("ExcelSheetReader",
+				() -> BenchmarkSupport.streamedRead(path, SHEET));
+		BenchmarkSupport.measure("ExcelSheetReader (no retention)", () -> {
+			try (ExcelSheetReader reader = ExcelSheetReader.open(path, SHEET)) {
+				return reader.forEachRow(row -> {
+				});
+			}
+		});
+
+		if (!Arrays.deepEquals(legacy, streamed)) {
+			throw new IllegalStateException("Streaming reader returned different rows than the legacy reader");
+		}
+		System.out.println("Both readers returned identical rows.");
+	}
+
+	private static void generate(File file, int rows) throws IOException {
+		try (SXSSFWorkbook workbook = new SXSSFWorkbook(100); FileOutputStream out = new FileOutputStream(file)) {
+			Sheet sheet = workbook.createSheet(SHEET);
+			CellStyle dateStyle = workbook.createCellStyle();
+			dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+			Row header = sheet.createRow(0);
+			String[] columns = { "id", "user", "amount", "joined", "active", "total", "note" };
+			for (int c = 0; c < columns.length; c++) {
+				header.createCell(c).setCellValue(columns[c]);
+			}
+			Date start = new Date(1_600_000_000_000L);
+			for (int r = 1; r <= rows; r++) {
+				Row row = sheet.createRow(r);
+				row.createCell(0).setCellValue(r);
+				row.createCell(1).setCellValue("user" + (r % 500));
+				row.createCell(2).setCellValue(r * 1.25);
+				Cell joined = row.createCell(3);
+				joined.setCellValue(new Date(start.getTime() + r * 86_400_000L));
+				joined.setCellStyle(dateStyle);
+				row.createCell(4).setCellValue(r % 2 == 0);
+				row.createCell(5).setCellFormula("A" + (r + 1) + "*C" + (r + 1));
+				if (r % 3 == 0) {
+					row.createCell(6).setCellValue("note for row " + r);
+				}
+			}
+			workbook.write(out);
+			workbook.dispose();
+		}
+	}
+
+	/** The read path DataProviderUtils used before the streaming reader. */
+	private static Object[][] legacyRead(String filePath, String sheetName) throws IOException {
+		List<List<String>> excelData = new ArrayList<>();
+		try (FileInputStream in = new FileInputStream(filePath); Workbook workbook = new XSSFWorkbook(in)) {
+			Iterator<Row> rowIterator = workbook.getSheet(sheetName).iterator();
+			while (rowIterator.hasNext()) {
+				List<String> rowData = new ArrayList<>();
+				Iterator<Cell> cellIterator = rowIterator.next().cellIterator();
+				while (cellIterator.hasNext()) {
+					rowData.add(legacyCellValue(cellIterator.next()));
+				}
+				excelData.add(rowData);
+			}
+		}
+		Object[][] dataArray = new Object[excelData.size()][];
+		for (int i = 0; i < excelData.size(); i++) {
+			dataArray[i] = excelData.get(i).toArray(new Object[0]);
+		}
+		return dataArray;
+	}
+
+	private static String legacyCellValue(Cell cell) {
+		switch (cell.getCellType()) {
+		case STRING:
+			return cell.getStringCellValue();
+		case NUMERIC:
+			return DateUtil.isCellDateFormatted(cell) ? cell.getDateCellValue().toString()
+					: Double.toString(cell.getNumericCellValue());
+		case BOOLEAN:
+			return Boolean.toString(cell.getBooleanCellValue());
+		case FORMULA:
+			return cell.getCellFormula();
+		default:
+			return "";
+		}
+	}
+}
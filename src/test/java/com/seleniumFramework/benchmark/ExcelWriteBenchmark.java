@@ -0,0 +1,106 @@
+package com.seleniumFramework.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import com.seleniumFramework.utilities.ExcelStreamWriter;
+
+/**
+ * Compares the in-memory XSSF write path of ExcelUtils with the streaming
+ * {@link ExcelStreamWriter} for wall time and peak heap, then appends a second
+ * batch of rows with the streaming writer and checks that both files hold the
+ * same rows.
+ *
+ * Usage: {@code ExcelWriteBenchmark [rows]} (default 50000). Run with a fixed
+ * heap, e.g. {@code -Xmx1g}, so the peak heap numbers are comparable.
+ *
+ * @author Abhijeet Maske
+ * @version 1.0
+ * @since October 18, 2026
+ */
+public class ExcelWriteBenchmark {
+
+	private static final String SHEET = "Results";
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+		File legacyFile = File.createTempFile("excel-write-legacy", ".xlsx");
+		File streamedFile = File.createTempFile("excel-write-streamed", ".xlsx");
+		legacyFile.deleteOnExit();
+		streamedFile.deleteOnExit();
+		streamedFile.delete();
+		List<List<String>> data = rows(0, rows);
+
+		BenchmarkSupport.measure("XSSFWorkbook (legacy)", () -> {
+			legacyWrite(legacyFile, data);
+			return null;
+		});
+		BenchmarkSupport.measure("ExcelStreamWriter", () -> {
+			try (ExcelStreamWriter writer = ExcelStreamWriter.open(streamedFile.getPath(), SHEET)) {
+				writer.writeRows(data);
+			}
+			return null;
+		});
+		System.out.printf("Files: legacy %d KB, streamed %d KB%n", legacyFile.length() / 1024,
+				streamedFile.length() / 1024);
+
+		if (!Arrays.deepEquals(BenchmarkSupport.streamedRead(legacyFile.getPath(), SHEET),
+				BenchmarkSupport.streamedRead(streamedFile.getPath(), SHEET))) {
+			throw new IllegalStateException("Streaming writer wrote different rows than the legacy writer");
+		}
+		System.out.println("Both writers wrote identical rows.");
+
+		BenchmarkSupport.measure("ExcelStreamWriter (append)", () -> {
+			try (ExcelStreamWriter writer = ExcelStreamWriter.open(streamedFile.getPath(), SHEET)) {
+				writer.writeRows(rows(rows, rows / 10));
+			}
+			return null;
+		});
+		Object[][] appended = BenchmarkSupport.streamedRead(streamedFile.getPath(), SHEET);
+		if (appended.length != rows + rows / 10 || !rows(rows, 1).get(0).equals(Arrays.asList(appended[rows]))) {
+			throw new IllegalStateException("Appended rows are missing or out of place");
+		}
+		System.out.printf("Appended %d row(s) after the existing %d.%n", rows / 10, rows);
+	}
+
+	private static List<List<String>> rows(int first, int count) {
+		return new AbstractList<List<String>>() {
+			@Override
+			public List<String> get(int index) {
+				int r = first + index;
+				return Arrays.asList("run-" + r, "TC_" + (r % 1000), r % 7 == 0 ? "FAIL" : "PASS",
+						Integer.toString(r * 13 % 5000), "step " + r + " of scraped table data");
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+		};
+	}
+
+	/** The write path ExcelUtils uses: the whole workbook in memory, written at once. */
+	private static void legacyWrite(File file, List<List<String>> data) throws IOException {
+		try (Workbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file)) {
+			Sheet sheet = workbook.createSheet(SHEET);
+			int rowCount = 0;
+			for (List<String> rowData : data) {
+				Row row = sheet.createRow(rowCount++);
+				int cellCount = 0;
+				for (String cellData : rowData) {
+					row.createCell(cellCount++).setCellValue(cellData);
+				}
+			}
+			workbook.write(out);
+		}
+	}
+}
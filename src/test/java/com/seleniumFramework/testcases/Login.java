@@ -1,13 +1,16 @@
 package com.seleniumFramework.testcases;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.seleniumFramework.common.BaseClass;
+import com.seleniumFramework.common.Config;
 import com.seleniumFramework.pageobject.LoginPage;
+import com.seleniumFramework.utilities.SmartWait;
 
 public class Login extends BaseClass{
 	private LoginPage loginPage;
@@ -24,9 +27,8 @@ public class Login extends BaseClass{
 	public void gmailLogin() throws InterruptedException {	
 		getDriver().get(url);
 		logger.info("url opeed");
-		Thread.sleep(500);
+		SmartWait.forPageLoad(getDriver(), Duration.ofSeconds(Config.MEDIUM_PAUSE));
 		getDriver().manage().window().maximize();
-		Thread.sleep(500);
 		loginPage.getHompageUrl();
 		loginPage.signup();
 	}